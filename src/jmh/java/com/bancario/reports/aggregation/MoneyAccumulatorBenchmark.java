@@ -0,0 +1,64 @@
+package com.bancario.reports.aggregation;
+
+import com.bancario.reports.benchmark.BenchmarkData;
+import com.bancario.reports.dto.DailyBalanceHistoryDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suma de importes: reduce con BigDecimal (implementación anterior) frente a {@link MoneyAccumulator}.
+ * Ejecutar con {@code -prof gc} para comparar la asignación por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MoneyAccumulatorBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private BigDecimal[] amounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<DailyBalanceHistoryDto> history = BenchmarkData.dailyBalances(size);
+        amounts = history.stream()
+                .map(DailyBalanceHistoryDto::balanceEOD)
+                .toArray(BigDecimal[]::new);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalReduce() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(amount);
+        }
+        return total.setScale(MoneyAccumulator.SCALE, MoneyAccumulator.ROUNDING);
+    }
+
+    @Benchmark
+    public BigDecimal moneyAccumulator() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (BigDecimal amount : amounts) {
+            total.add(amount);
+        }
+        return total.totalRounded();
+    }
+}
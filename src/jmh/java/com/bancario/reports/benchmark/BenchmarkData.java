@@ -0,0 +1,122 @@
+package com.bancario.reports.benchmark;
+
+import com.bancario.reports.dto.AccountResponse;
+import com.bancario.reports.dto.CommissionReportDto;
+import com.bancario.reports.dto.DailyBalanceHistoryDto;
+import com.bancario.reports.dto.TransactionResponse;
+import com.bancario.reports.enums.AccountStatus;
+import com.bancario.reports.enums.AccountType;
+import com.bancario.reports.enums.CreditType;
+import com.bancario.reports.enums.ProductType;
+import com.bancario.reports.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generadores deterministas (semilla fija) de datos con forma realista para los benchmarks.
+ * Los importes son de escala 2, como los que devuelven account-service y transactions-service.
+ */
+public final class BenchmarkData {
+
+    public static final LocalDate PERIOD_START = LocalDate.of(2025, 1, 1);
+    public static final LocalDate PERIOD_END = LocalDate.of(2025, 12, 31);
+
+    private static final String[] PRODUCT_NAMES = {
+            "SAVINGS_ACCOUNT", "CURRENT_ACCOUNT", "FIXED_TERM_DEPOSIT", "PERSONAL", "BUSINESS", "CREDIT_CARD"
+    };
+    private static final long SEED = 20250101L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Snapshots EOD repartidos en el año: 2/3 productos PASSIVE y 1/3 ACTIVE.
+     */
+    public static List<DailyBalanceHistoryDto> dailyBalances(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<DailyBalanceHistoryDto> history = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean passive = i % 3 != 0;
+            history.add(new DailyBalanceHistoryDto(
+                    "product-" + (i % 50),
+                    passive ? AccountType.SAVINGS_ACCOUNT.name() : null,
+                    passive ? ProductType.PASSIVE.name() : ProductType.ACTIVE.name(),
+                    PERIOD_START.plusDays(i % 365),
+                    amount(random, 5_000_000),
+                    passive ? null : amount(random, 1_000_000)
+            ));
+        }
+        return history;
+    }
+
+    /**
+     * Comisiones detalladas repartidas entre los productos del catálogo.
+     */
+    public static List<CommissionReportDto> commissions(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<CommissionReportDto> commissions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String productName = PRODUCT_NAMES[i % PRODUCT_NAMES.length];
+            commissions.add(new CommissionReportDto(
+                    "account-" + (i % 1000),
+                    i % PRODUCT_NAMES.length < 3 ? ProductType.PASSIVE : ProductType.ACTIVE,
+                    productName,
+                    amount(random, 5_000),
+                    PERIOD_START.atStartOfDay().plusMinutes(i % 525_600)
+            ));
+        }
+        return commissions;
+    }
+
+    public static List<AccountResponse> accounts(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<AccountResponse> accounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean active = i % 4 == 0;
+            accounts.add(new AccountResponse(
+                    "account-" + i,
+                    "customer-" + (i % 100),
+                    String.format("191-%010d", i),
+                    active ? ProductType.ACTIVE : ProductType.PASSIVE,
+                    active ? null : AccountType.SAVINGS_ACCOUNT,
+                    active ? CreditType.CREDIT_CARD : null,
+                    amount(random, 10_000_000),
+                    active ? amount(random, 1_000_000) : null,
+                    LocalDateTime.of(2020, 1, 1, 9, 0).plusDays(i % 1500),
+                    i % 20,
+                    null,
+                    AccountStatus.ACTIVE,
+                    List.of("customer-" + (i % 100)),
+                    List.of()
+            ));
+        }
+        return accounts;
+    }
+
+    public static List<TransactionResponse> transactions(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        TransactionType[] types = TransactionType.values();
+        List<TransactionResponse> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionResponse(
+                    "tx-" + i,
+                    "account-" + (i % 1000),
+                    "customer-" + (i % 100),
+                    types[i % types.length],
+                    amount(random, 500_000),
+                    PERIOD_START.atStartOfDay().plusSeconds(i * 37L),
+                    "Movimiento " + i
+            ));
+        }
+        return transactions;
+    }
+
+    private static BigDecimal amount(SplittableRandom random, int maxCents) {
+        return BigDecimal.valueOf(random.nextInt(maxCents), 2);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bancario.reports.benchmark;
+
+import com.bancario.reports.dto.AccountResponse;
+import com.bancario.reports.dto.TransactionResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (De)serialización Jackson de las listas que intercambiamos con account-service y transactions-service.
+ * El ObjectMapper replica la configuración por defecto de quarkus-jackson (fechas ISO, sin fallar por
+ * propiedades desconocidas). El límite superior es 10^6: 10^7 elementos no caben como byte[] en un solo payload.
+ * Las variantes *Smile usan la misma configuración con SmileFactory (formato negociado por SmileMessageBodyHandler).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class JacksonSerializationBenchmark {
+
+    private static final TypeReference<List<TransactionResponse>> TRANSACTIONS = new TypeReference<>() {};
+    private static final TypeReference<List<AccountResponse>> ACCOUNTS = new TypeReference<>() {};
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper smileMapper;
+    private List<TransactionResponse> transactions;
+    private List<AccountResponse> accounts;
+    private byte[] transactionsJson;
+    private byte[] accountsJson;
+    private byte[] transactionsSmile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        transactions = BenchmarkData.transactions(size);
+        accounts = BenchmarkData.accounts(size);
+        smileMapper = objectMapper.copyWith(new SmileFactory());
+        transactionsJson = objectMapper.writeValueAsBytes(transactions);
+        transactionsSmile = smileMapper.writeValueAsBytes(transactions);
+        accountsJson = objectMapper.writeValueAsBytes(accounts);
+    }
+
+    @Benchmark
+    public byte[] serializeTransactions() throws IOException {
+        return objectMapper.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public List<TransactionResponse> deserializeTransactions() throws IOException {
+        return objectMapper.readValue(transactionsJson, TRANSACTIONS);
+    }
+
+    @Benchmark
+    public byte[] serializeTransactionsSmile() throws IOException {
+        return smileMapper.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public List<TransactionResponse> deserializeTransactionsSmile() throws IOException {
+        return smileMapper.readValue(transactionsSmile, TRANSACTIONS);
+    }
+
+    @Benchmark
+    public byte[] serializeAccounts() throws IOException {
+        return objectMapper.writeValueAsBytes(accounts);
+    }
+
+    @Benchmark
+    public List<AccountResponse> deserializeAccounts() throws IOException {
+        return objectMapper.readValue(accountsJson, ACCOUNTS);
+    }
+}
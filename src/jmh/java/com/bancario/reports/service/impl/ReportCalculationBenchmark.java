@@ -0,0 +1,104 @@
+package com.bancario.reports.service.impl;
+
+import com.bancario.reports.benchmark.BenchmarkData;
+import com.bancario.reports.dto.AccountResponse;
+import com.bancario.reports.dto.BalanceReportDTO;
+import com.bancario.reports.dto.CommissionReportDto;
+import com.bancario.reports.dto.CommissionReportItem;
+import com.bancario.reports.dto.DailyAverageBalanceReportDto;
+import com.bancario.reports.dto.DailyBalanceHistoryDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Hot paths de cálculo de ReportsServiceImpl medidos sobre listas ya deserializadas.
+ * Se ejecuta fuera de CDI: estos métodos no usan los gateways ni la configuración inyectada.
+ * Cada benchmark tiene su propio estado, por lo que sólo se genera la lista que mide: con size=10000000
+ * las tres listas juntas no caben en el heap de -Xmx6g.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g", "-Djava.util.logging.manager=org.jboss.logmanager.LogManager"})
+public class ReportCalculationBenchmark {
+
+    private static final ReportsServiceImpl REPORTS_SERVICE = new ReportsServiceImpl();
+
+    @State(Scope.Benchmark)
+    public static class DailyBalances {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        int size;
+
+        List<DailyBalanceHistoryDto> history;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            history = BenchmarkData.dailyBalances(size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Commissions {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        int size;
+
+        List<CommissionReportDto> commissions;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            commissions = BenchmarkData.commissions(size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Accounts {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        int size;
+
+        List<AccountResponse> accounts;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            accounts = BenchmarkData.accounts(size);
+        }
+    }
+
+    @Benchmark
+    public DailyAverageBalanceReportDto calculateDailyAverage(DailyBalances state) {
+        return REPORTS_SERVICE.calculateDailyAverage(
+                "customer-1", BenchmarkData.PERIOD_START, BenchmarkData.PERIOD_END, state.history);
+    }
+
+    @Benchmark
+    public List<CommissionReportItem> aggregateCommissions(Commissions state) {
+        return REPORTS_SERVICE.aggregateCommissions(state.commissions);
+    }
+
+    /**
+     * Mismo recorrido que getBalancesByCustomer tras recibir las cuentas del account-service.
+     */
+    @Benchmark
+    public List<BalanceReportDTO> mapToBalanceReportDTO(Accounts state) {
+        return state.accounts.stream()
+                .map(REPORTS_SERVICE::mapToBalanceReportDTO)
+                .collect(Collectors.toList());
+    }
+}
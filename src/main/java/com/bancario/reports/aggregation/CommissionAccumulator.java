@@ -0,0 +1,101 @@
+package com.bancario.reports.aggregation;
+
+import com.bancario.reports.dto.CommissionReportDto;
+import com.bancario.reports.dto.CommissionReportItem;
+import com.bancario.reports.enums.ProductType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acumulador de una sola pasada para el reporte de comisiones.
+ * <p>
+ * Cada comisión se suma directamente al total de su productName, por lo que la memoria es
+ * O(número de productos) y no O(número de comisiones). El ProductType de cada producto es el
+ * de la primera comisión recibida (se asume consistente dentro del grupo).
+ * Los fees se suman en céntimos con {@link MoneyAccumulator}; los totales salen con escala 2 HALF_UP.
+ * No es thread-safe: cada flujo usa su propia instancia y las parciales se combinan con {@link #merge}.
+ */
+public final class CommissionAccumulator {
+
+    private final Map<String, ProductTotal> totalsByProduct = new HashMap<>();
+    private long count;
+
+    /**
+     * Suma una comisión detallada a su producto.
+     */
+    public CommissionAccumulator add(CommissionReportDto commission) {
+        ProductTotal total = totalsByProduct.computeIfAbsent(
+                commission.productName(), name -> new ProductTotal(commission.productType()));
+        total.fees.add(commission.fee());
+        count++;
+        return this;
+    }
+
+    /**
+     * Suma un total ya agregado (p. ej. un rollup diario persistido) a su producto.
+     */
+    public CommissionAccumulator addTotal(String productName, ProductType productType, BigDecimal totalFees) {
+        ProductTotal total = totalsByProduct.computeIfAbsent(productName, name -> new ProductTotal(productType));
+        total.fees.add(totalFees);
+        return this;
+    }
+
+    /**
+     * Combina los totales de otro acumulador parcial en éste.
+     */
+    public CommissionAccumulator merge(CommissionAccumulator other) {
+        other.totalsByProduct.forEach((productName, otherTotal) -> {
+            ProductTotal total = totalsByProduct.computeIfAbsent(productName, name -> new ProductTotal(otherTotal.productType));
+            total.fees.add(otherTotal.fees);
+        });
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * Número de comisiones detalladas acumuladas.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Genera las líneas finales del reporte, una por producto.
+     */
+    public List<CommissionReportItem> toItems() {
+        List<CommissionReportItem> items = new ArrayList<>(totalsByProduct.size());
+        totalsByProduct.forEach((productName, total) -> items.add(CommissionReportItem.builder()
+                .productName(productName)
+                .productType(total.productType)
+                .totalFees(total.fees.totalRounded())
+                .build()));
+        return items;
+    }
+
+    /**
+     * Líneas del reporte con los totales exactos, sin redondear. Se usan para guardar acumulados parciales
+     * (p. ej. rollups diarios) que se combinarán después, de modo que el redondeo se aplique una sola vez.
+     */
+    public List<CommissionReportItem> toExactItems() {
+        List<CommissionReportItem> items = new ArrayList<>(totalsByProduct.size());
+        totalsByProduct.forEach((productName, total) -> items.add(CommissionReportItem.builder()
+                .productName(productName)
+                .productType(total.productType)
+                .totalFees(total.fees.total())
+                .build()));
+        return items;
+    }
+
+    private static final class ProductTotal {
+        private final ProductType productType;
+        private final MoneyAccumulator fees = new MoneyAccumulator();
+
+        private ProductTotal(ProductType productType) {
+            this.productType = productType;
+        }
+    }
+}
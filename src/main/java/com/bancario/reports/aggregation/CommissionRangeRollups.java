@@ -0,0 +1,118 @@
+package com.bancario.reports.aggregation;
+
+import com.bancario.reports.dto.CommissionReportDto;
+import com.bancario.reports.dto.CommissionReportItem;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Comisiones de los tramos consultados al Transaction-Service, repartidas en un acumulador por día
+ * (vacío si el día no tiene comisiones).
+ * <p>
+ * Las comisiones sin transactionDate no pueden asignarse a un día: se anclan al primer día del tramo en el que
+ * llegaron y forman parte del rollup de ese día ({@link #rollup}). Así se guardan y se reutilizan igual que
+ * las fechadas, y un reporte servido desde rollups ya guardados suma lo mismo que el que consultó los tramos.
+ * No es thread-safe: cada tramo usa su propia instancia y las de varios tramos se combinan con {@link #merge}.
+ */
+public final class CommissionRangeRollups {
+
+    private final Map<LocalDate, CommissionAccumulator> byDay = new HashMap<>();
+    private final Map<LocalDate, CommissionAccumulator> undatedByDay = new HashMap<>();
+    // Comisiones sin fecha del tramo propio (null en la instancia vacía que combina tramos).
+    private final CommissionAccumulator undated;
+
+    public CommissionRangeRollups() {
+        this.undated = null;
+    }
+
+    public CommissionRangeRollups(LocalDate startDate, LocalDate endDate) {
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            byDay.put(day, new CommissionAccumulator());
+        }
+        this.undated = new CommissionAccumulator();
+        undatedByDay.put(startDate, undated);
+    }
+
+    /**
+     * Suma una comisión a su día o, si no tiene fecha, al primer día del tramo.
+     * Las comisiones fechadas fuera del tramo se ignoran.
+     */
+    public CommissionRangeRollups add(CommissionReportDto commission) {
+        if (commission.transactionDate() == null) {
+            if (undated != null) {
+                undated.add(commission);
+            }
+            return this;
+        }
+        CommissionAccumulator day = byDay.get(commission.transactionDate().toLocalDate());
+        if (day != null) {
+            day.add(commission);
+        }
+        return this;
+    }
+
+    /**
+     * Combina los tramos de otra instancia (los tramos no se solapan).
+     */
+    public CommissionRangeRollups merge(CommissionRangeRollups other) {
+        byDay.putAll(other.byDay);
+        undatedByDay.putAll(other.undatedByDay);
+        return this;
+    }
+
+    public Set<LocalDate> days() {
+        return byDay.keySet();
+    }
+
+    /**
+     * Comisiones fechadas del día, o null si el día no se consultó.
+     */
+    public CommissionAccumulator dated(LocalDate day) {
+        return byDay.get(day);
+    }
+
+    /**
+     * Comisiones sin fecha ancladas al día, o null si el día no inicia un tramo consultado.
+     */
+    public CommissionAccumulator undated(LocalDate day) {
+        return undatedByDay.get(day);
+    }
+
+    /**
+     * Rollup completo del día (fechadas más las sin fecha ancladas a él) en un acumulador nuevo,
+     * o null si el día no se consultó.
+     */
+    public CommissionAccumulator rollup(LocalDate day) {
+        CommissionAccumulator dated = byDay.get(day);
+        if (dated == null) {
+            return null;
+        }
+        CommissionAccumulator rollup = new CommissionAccumulator().merge(dated);
+        CommissionAccumulator anchored = undatedByDay.get(day);
+        return anchored != null ? rollup.merge(anchored) : rollup;
+    }
+
+    /**
+     * Reporte del rango [startDate, endDate]: los días consultados se toman de esta instancia y el resto
+     * de knownRollup (null si el día no tiene rollup). Los totales se redondean una sola vez, al final.
+     */
+    public List<CommissionReportItem> report(
+            LocalDate startDate,
+            LocalDate endDate,
+            Function<LocalDate, CommissionAccumulator> knownRollup
+    ) {
+        CommissionAccumulator report = new CommissionAccumulator();
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            CommissionAccumulator rollup = byDay.containsKey(day) ? rollup(day) : knownRollup.apply(day);
+            if (rollup != null) {
+                report.merge(rollup);
+            }
+        }
+        return report.toItems();
+    }
+}
@@ -0,0 +1,121 @@
+package com.bancario.reports.aggregation;
+
+import com.bancario.reports.dto.DailyAverageBalanceReportDto;
+import com.bancario.reports.dto.DailyBalanceHistoryDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Índice de sumas prefijas de los saldos efectivos diarios de un cliente.
+ * <p>
+ * Se construye una sola vez en O(n) a partir del historial EOD de un rango [firstDay, lastDay];
+ * a partir de ahí el SPD de cualquier ventana contenida se resuelve en O(1):
+ * {@code (prefix[end + 1] - prefix[start]) / días de la ventana}.
+ * Es inmutable y seguro para compartirse entre hilos.
+ */
+public final class DailyBalancePrefixIndex {
+
+    private final String customerId;
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    // prefixSums[i] = suma de saldos efectivos de los días [firstDay, firstDay + i)
+    private final BigDecimal[] prefixSums;
+    // prefixRows[i] = número de snapshots (de cualquier tipo) de los días [firstDay, firstDay + i)
+    private final int[] prefixRows;
+
+    private DailyBalancePrefixIndex(String customerId, LocalDate firstDay, LocalDate lastDay,
+                                    BigDecimal[] prefixSums, int[] prefixRows) {
+        this.customerId = customerId;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.prefixSums = prefixSums;
+        this.prefixRows = prefixRows;
+    }
+
+    /**
+     * Construye el índice para el rango [firstDay, lastDay].
+     *
+     * @param customerId El ID del cliente.
+     * @param firstDay Primer día cubierto.
+     * @param lastDay Último día cubierto.
+     * @param history Historial EOD del rango (las filas fuera del rango o sin fecha se ignoran).
+     * @param effectiveBalance Regla de negocio que determina el saldo que aporta cada snapshot al SPD.
+     * @return El índice inmutable.
+     */
+    public static DailyBalancePrefixIndex build(
+            String customerId,
+            LocalDate firstDay,
+            LocalDate lastDay,
+            List<DailyBalanceHistoryDto> history,
+            Function<DailyBalanceHistoryDto, BigDecimal> effectiveBalance
+    ) {
+        int days = (int) ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
+        BigDecimal[] dailySums = new BigDecimal[days];
+        int[] dailyRows = new int[days];
+
+        for (DailyBalanceHistoryDto dto : history) {
+            if (dto.date() == null || dto.date().isBefore(firstDay) || dto.date().isAfter(lastDay)) {
+                continue;
+            }
+            int offset = (int) ChronoUnit.DAYS.between(firstDay, dto.date());
+            BigDecimal balance = effectiveBalance.apply(dto);
+            dailySums[offset] = dailySums[offset] == null ? balance : dailySums[offset].add(balance);
+            dailyRows[offset]++;
+        }
+
+        BigDecimal[] prefixSums = new BigDecimal[days + 1];
+        int[] prefixRows = new int[days + 1];
+        prefixSums[0] = BigDecimal.ZERO;
+        for (int i = 0; i < days; i++) {
+            prefixSums[i + 1] = dailySums[i] == null ? prefixSums[i] : prefixSums[i].add(dailySums[i]);
+            prefixRows[i + 1] = prefixRows[i] + dailyRows[i];
+        }
+        return new DailyBalancePrefixIndex(customerId, firstDay, lastDay, prefixSums, prefixRows);
+    }
+
+    /**
+     * Indica si la ventana [startDate, endDate] está contenida en el rango del índice.
+     */
+    public boolean covers(LocalDate startDate, LocalDate endDate) {
+        return !startDate.isBefore(firstDay) && !endDate.isAfter(lastDay);
+    }
+
+    /**
+     * Calcula en O(1) el SPD de una ventana contenida en el índice, con la misma semántica que el
+     * cálculo directo: cero si la ventana no tiene historial y, si lo tiene, suma / días con escala 2 HALF_UP.
+     *
+     * @throws IllegalArgumentException Si la ventana no está cubierta por el índice.
+     */
+    public DailyAverageBalanceReportDto average(LocalDate startDate, LocalDate endDate) {
+        if (!covers(startDate, endDate)) {
+            throw new IllegalArgumentException("La ventana [" + startDate + " - " + endDate
+                    + "] está fuera del rango indexado [" + firstDay + " - " + lastDay + "].");
+        }
+        int from = (int) ChronoUnit.DAYS.between(firstDay, startDate);
+        int to = (int) ChronoUnit.DAYS.between(firstDay, endDate) + 1;
+
+        if (prefixRows[to] - prefixRows[from] == 0) {
+            return new DailyAverageBalanceReportDto(customerId, startDate, endDate, BigDecimal.ZERO);
+        }
+        BigDecimal total = prefixSums[to].subtract(prefixSums[from]);
+        BigDecimal average = total.divide(BigDecimal.valueOf(to - from), 2, RoundingMode.HALF_UP);
+        return new DailyAverageBalanceReportDto(customerId, startDate, endDate, average);
+    }
+
+    public String customerId() {
+        return customerId;
+    }
+
+    public LocalDate firstDay() {
+        return firstDay;
+    }
+
+    public LocalDate lastDay() {
+        return lastDay;
+    }
+}
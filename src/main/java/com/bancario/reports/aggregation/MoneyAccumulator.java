@@ -0,0 +1,109 @@
+package com.bancario.reports.aggregation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Acumulador de importes monetarios en punto fijo: suma en {@code long} los céntimos (escala 2)
+ * en lugar de crear un {@link BigDecimal} nuevo por cada suma.
+ * <p>
+ * Los importes con escala 0..2 se convierten a céntimos exactos. Si llega un importe con más de
+ * 2 decimales, o la suma desborda {@code long}, el acumulador pasa (una sola vez) a BigDecimal
+ * exacto, por lo que el resultado es siempre idéntico al de {@code reduce(BigDecimal.ZERO, BigDecimal::add)}.
+ * Los resultados públicos se redondean a escala 2 con {@link RoundingMode#HALF_UP}, como el resto del servicio.
+ * No es thread-safe.
+ */
+public final class MoneyAccumulator {
+
+    public static final int SCALE = 2;
+    public static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+
+    private static final double CENTS_PER_UNIT = 100.0;
+    // Cota de los céntimos leídos vía double: por debajo de 2^50 el error de conversión es < 0.25 céntimos.
+    private static final double MAX_EXACT_CENTS = 0x1p50;
+
+    private long cents;
+    // null mientras la suma cabe en céntimos long; en caso contrario contiene la suma exacta.
+    private BigDecimal exact;
+
+    /**
+     * Suma un importe (los nulos se ignoran).
+     * <p>
+     * Los céntimos se leen sin asignar memoria: {@link BigDecimal#doubleValue()} de un valor compacto de escala
+     * 0..2 es una sola división en double (sin crear BigInteger, a diferencia de {@code unscaledValue()}), y con
+     * |céntimos| &lt; 2^50 el error acumulado de la división y la multiplicación es &lt; 0.25, por lo que
+     * {@link Math#round(double)} devuelve los céntimos exactos. Fuera de esa cota se continúa en BigDecimal exacto.
+     */
+    public MoneyAccumulator add(BigDecimal amount) {
+        if (amount == null) {
+            return this;
+        }
+        if (exact == null) {
+            int scale = amount.scale();
+            if (scale >= 0 && scale <= SCALE) {
+                double amountCents = amount.doubleValue() * CENTS_PER_UNIT;
+                if (Math.abs(amountCents) < MAX_EXACT_CENTS) {
+                    try {
+                        cents = Math.addExact(cents, Math.round(amountCents));
+                        return this;
+                    } catch (ArithmeticException overflow) {
+                        // Desbordamiento: se continúa en BigDecimal exacto.
+                    }
+                }
+            }
+            exact = BigDecimal.valueOf(cents, SCALE);
+        }
+        exact = exact.add(amount);
+        return this;
+    }
+
+    /**
+     * Combina la suma de otro acumulador en éste.
+     */
+    public MoneyAccumulator add(MoneyAccumulator other) {
+        if (exact == null && other.exact == null) {
+            try {
+                cents = Math.addExact(cents, other.cents);
+                return this;
+            } catch (ArithmeticException overflow) {
+                // Desbordamiento: se continúa en BigDecimal exacto.
+            }
+        }
+        exact = total().add(other.total());
+        return this;
+    }
+
+    /**
+     * Suma exacta acumulada (escala 2 mientras se mantiene en céntimos).
+     */
+    public BigDecimal total() {
+        return exact == null ? BigDecimal.valueOf(cents, SCALE) : exact;
+    }
+
+    /**
+     * Suma acumulada redondeada a escala 2 HALF_UP.
+     */
+    public BigDecimal totalRounded() {
+        return total().setScale(SCALE, ROUNDING);
+    }
+
+    /**
+     * Promedio de la suma sobre {@code divisor} elementos (p. ej. días), a escala 2 HALF_UP.
+     * En modo céntimos la división y el redondeo se hacen en {@code long}.
+     */
+    public BigDecimal averageOver(long divisor) {
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("El divisor debe ser positivo.");
+        }
+        if (exact != null) {
+            return exact.divide(BigDecimal.valueOf(divisor), SCALE, ROUNDING);
+        }
+        long quotient = cents / divisor;
+        long remainder = cents % divisor;
+        // HALF_UP: si el resto es al menos la mitad del divisor, se aleja de cero.
+        if (Math.abs(remainder) >= divisor - Math.abs(remainder)) {
+            quotient += Long.signum(cents);
+        }
+        return BigDecimal.valueOf(quotient, SCALE);
+    }
+}
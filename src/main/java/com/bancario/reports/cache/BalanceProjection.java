@@ -0,0 +1,213 @@
+package com.bancario.reports.cache;
+
+import com.bancario.reports.dto.AccountBalanceEvent;
+import com.bancario.reports.dto.BalanceReportDTO;
+import com.bancario.reports.enums.ProjectionEventOutcome;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Proyección en memoria de los saldos por cliente, mantenida con los eventos de cambio de saldo
+ * del account-service ({@link AccountBalanceEvent}).
+ * <p>
+ * Un cliente entra en la proyección la primera vez que se consulta: {@link #startSync(String)} lo registra
+ * (a partir de ese momento acepta eventos) y {@link #seed} carga la respuesta del account-service. Sólo los
+ * clientes sincronizados hace menos de reports-service.balances.projection.resync-after se sirven desde la
+ * proyección; pasado ese tiempo se vuelve a consultar el account-service, lo que acota el efecto de un evento perdido.
+ * Si esa consulta falla, {@link #abortSync} retira al cliente para que no siga acumulando eventos sin saldos base.
+ * <p>
+ * Los clientes se guardan en una caché Caffeine acotada a reports-service.balances.projection.max-customers
+ * que expira los no consultados ni actualizados durante reports-service.balances.projection.expire-after-access.
+ * <p>
+ * Control de versiones: cada cuenta guarda la última versión aplicada y los eventos con una versión igual o
+ * anterior se descartan. La respuesta del account-service no trae versiones, así que una cuenta cargada por
+ * consulta no tiene versión conocida: su cota inferior es el inicio de esa consulta y se descartan los eventos
+ * ocurridos antes (occurredAt), cuyo cambio ya está en el saldo cargado; el primer evento aplicado fija su versión.
+ * Al sincronizar, las cuentas modificadas por un evento posterior al inicio de la consulta conservan el valor
+ * del evento (la respuesta del account-service puede ser anterior a él).
+ * <p>
+ * Se publican en /q/metrics {@value #EVENTS_COUNTER} (por outcome) y {@value #CUSTOMERS_GAUGE}.
+ */
+@Slf4j
+@ApplicationScoped
+public class BalanceProjection {
+
+    public static final String EVENTS_COUNTER = "reports.projection.events";
+    public static final String CUSTOMERS_GAUGE = "reports.projection.customers";
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "reports-service.balances.projection.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "reports-service.balances.projection.resync-after", defaultValue = "10M")
+    Duration resyncAfter;
+
+    // Por encima de este número de clientes se desalojan los menos usados (se vuelven a consultar al account-service).
+    @ConfigProperty(name = "reports-service.balances.projection.max-customers", defaultValue = "100000")
+    int maxCustomers;
+
+    @ConfigProperty(name = "reports-service.balances.projection.expire-after-access", defaultValue = "30M")
+    Duration expireAfterAccess;
+
+    private ConcurrentMap<String, CustomerView> customers;
+
+    @PostConstruct
+    void init() {
+        Cache<String, CustomerView> cache = Caffeine.newBuilder()
+                .maximumSize(maxCustomers)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        customers = cache.asMap();
+        Gauge.builder(CUSTOMERS_GAUGE, cache, Cache::estimatedSize).register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Saldos del cliente si está sincronizado y dentro de resync-after; vacío si hay que consultarlo al account-service.
+     */
+    public Optional<List<BalanceReportDTO>> balances(String customerId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CustomerView view = customers.get(customerId);
+        if (view == null || !view.synced() || System.nanoTime() - view.syncedAt() > resyncAfter.toNanos()) {
+            return Optional.empty();
+        }
+        return Optional.of(view.balances());
+    }
+
+    /**
+     * Marca el inicio de una consulta al account-service para el cliente; desde este momento el cliente acepta eventos.
+     *
+     * @return Marca de tiempo que debe pasarse a {@link #seed}.
+     */
+    public long startSync(String customerId) {
+        long startedAt = System.nanoTime();
+        if (enabled) {
+            customers.putIfAbsent(customerId, CustomerView.EMPTY);
+        }
+        return startedAt;
+    }
+
+    /**
+     * Retira al cliente tras una consulta al account-service iniciada en syncStartedAt que falló o se canceló,
+     * salvo que otra consulta posterior ya lo haya sincronizado.
+     */
+    public void abortSync(String customerId, long syncStartedAt) {
+        if (!enabled) {
+            return;
+        }
+        customers.computeIfPresent(customerId, (id, view) -> view.synced() && view.syncedAt() - syncStartedAt > 0 ? view : null);
+    }
+
+    /**
+     * Carga en la proyección la respuesta del account-service obtenida tras {@link #startSync(String)}.
+     */
+    public void seed(String customerId, List<BalanceReportDTO> balances, long syncStartedAt) {
+        if (!enabled) {
+            return;
+        }
+        // Instante (reloj de pared) en que empezó la consulta, para compararlo con occurredAt de los eventos.
+        Instant syncStartedAtInstant = Instant.now().minusNanos(System.nanoTime() - syncStartedAt);
+        customers.computeIfPresent(customerId, (id, view) -> {
+            Map<String, AccountView> accounts = new LinkedHashMap<>();
+            for (BalanceReportDTO balance : balances) {
+                AccountView current = view.accounts().get(balance.accountId());
+                if (current != null && current.appliedAt() - syncStartedAt > 0) {
+                    // Evento posterior al inicio de la consulta: es más reciente que la respuesta.
+                    accounts.put(balance.accountId(), current);
+                } else {
+                    long version = current != null ? current.version() : 0;
+                    accounts.put(balance.accountId(), new AccountView(balance, version, syncStartedAt,
+                            version == 0 ? syncStartedAtInstant : null));
+                }
+            }
+            // Cuentas nuevas recibidas por evento durante la consulta.
+            view.accounts().forEach((accountId, current) -> {
+                if (current.appliedAt() - syncStartedAt > 0) {
+                    accounts.putIfAbsent(accountId, current);
+                }
+            });
+            return CustomerView.of(accounts, true, System.nanoTime());
+        });
+    }
+
+    /**
+     * Aplica un evento de cambio de saldo.
+     */
+    public ProjectionEventOutcome apply(AccountBalanceEvent event) {
+        ProjectionEventOutcome[] outcome = {ProjectionEventOutcome.COLD};
+        if (enabled) {
+            customers.computeIfPresent(event.customerId(), (id, view) -> {
+                AccountView current = view.accounts().get(event.accountId());
+                if (current != null && current.isNewerThan(event)) {
+                    outcome[0] = ProjectionEventOutcome.STALE;
+                    return view;
+                }
+                outcome[0] = ProjectionEventOutcome.APPLIED;
+                Map<String, AccountView> accounts = new LinkedHashMap<>(view.accounts());
+                BalanceReportDTO balance = new BalanceReportDTO(event.accountId(), event.productType(), event.availableBalance());
+                accounts.put(event.accountId(), new AccountView(balance, event.version(), System.nanoTime(), null));
+                return CustomerView.of(accounts, view.synced(), view.syncedAt());
+            });
+        }
+        registry.counter(EVENTS_COUNTER, "outcome", outcome[0].name().toLowerCase()).increment();
+        return outcome[0];
+    }
+
+    /**
+     * Elimina un cliente de la proyección; la próxima consulta irá al account-service.
+     */
+    public void evict(String customerId) {
+        customers.remove(customerId);
+    }
+
+    /**
+     * Saldo de una cuenta. version es 0 si se cargó por consulta y ningún evento la ha actualizado todavía;
+     * en ese caso syncedFrom es el inicio de la consulta y actúa como cota inferior de los eventos.
+     */
+    private record AccountView(BalanceReportDTO balance, long version, long appliedAt, Instant syncedFrom) {
+
+        boolean isNewerThan(AccountBalanceEvent event) {
+            if (version >= event.version()) {
+                return true;
+            }
+            return version == 0 && syncedFrom != null && event.occurredAt().isBefore(syncedFrom);
+        }
+    }
+
+    /**
+     * Vista inmutable de un cliente. balances se construye al escribir para que la lectura no copie nada.
+     * synced es false mientras no se haya completado la primera consulta al account-service.
+     */
+    private record CustomerView(Map<String, AccountView> accounts, List<BalanceReportDTO> balances, boolean synced, long syncedAt) {
+
+        static final CustomerView EMPTY = new CustomerView(Map.of(), List.of(), false, 0);
+
+        static CustomerView of(Map<String, AccountView> accounts, boolean synced, long syncedAt) {
+            List<BalanceReportDTO> balances = accounts.values().stream().map(AccountView::balance).toList();
+            return new CustomerView(Collections.unmodifiableMap(accounts), balances, synced, syncedAt);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.bancario.reports.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Respuesta guardada en una caché de reportes junto con el instante en que se obtuvo,
+ * para decidir si está fresca, si puede servirse obsoleta mientras se revalida o sólo ante un fallo.
+ *
+ * @param <V> Tipo de la respuesta.
+ */
+public record CachedResponse<V>(V value, Instant storedAt) {
+
+    public static <V> CachedResponse<V> of(V value) {
+        return new CachedResponse<>(value, Instant.now());
+    }
+
+    public Duration age() {
+        return Duration.between(storedAt, Instant.now());
+    }
+}
@@ -0,0 +1,57 @@
+package com.bancario.reports.cache;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Última respuesta correcta (last-known-good) de cada reporte y clave, para que los fallbacks
+ * puedan servirla marcada como obsoleta en lugar de responder 503.
+ * <p>
+ * Se guarda en la caché acotada {@value #LAST_KNOWN_GOOD_CACHE} (Caffeine); su tamaño máximo y su
+ * antigüedad máxima (expire-after-write) se configuran en application.properties.
+ */
+@ApplicationScoped
+public class LastKnownGoodStore {
+
+    public static final String LAST_KNOWN_GOOD_CACHE = "last-known-good";
+
+    @Inject
+    @CacheName(LAST_KNOWN_GOOD_CACHE)
+    Cache cache;
+
+    @ConfigProperty(name = "reports-service.last-known-good.enabled", defaultValue = "true")
+    boolean enabled;
+
+    /**
+     * Guarda la respuesta correcta más reciente de un reporte.
+     */
+    public <V> void remember(String report, Object key, V value) {
+        if (enabled && value != null) {
+            cache.as(CaffeineCache.class).put(new SnapshotKey(report, key), CompletableFuture.completedFuture(CachedResponse.of(value)));
+        }
+    }
+
+    /**
+     * Última respuesta correcta de un reporte, si existe y no ha expirado.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Optional<CachedResponse<V>> lookup(String report, Object key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CompletableFuture<Object> future = cache.as(CaffeineCache.class).getIfPresent(new SnapshotKey(report, key));
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((CachedResponse<V>) future.getNow(null));
+    }
+
+    private record SnapshotKey(String report, Object key) {}
+}
@@ -0,0 +1,21 @@
+package com.bancario.reports.cache;
+
+import java.time.Duration;
+
+/**
+ * Resultado de un reporte protegido por un fallback last-known-good: la respuesta recién calculada o,
+ * si el servicio externo falló, la última respuesta correcta marcada como obsoleta con su antigüedad.
+ * ReportsResource la sirve en ambos casos como HTTP 200 (la obsoleta con X-Stale: true y Age).
+ *
+ * @param <T> Tipo de la respuesta.
+ */
+public record Served<T>(T value, boolean stale, Duration age) {
+
+    public static <T> Served<T> fresh(T value) {
+        return new Served<>(value, false, Duration.ZERO);
+    }
+
+    public static <T> Served<T> stale(CachedResponse<T> snapshot) {
+        return new Served<>(snapshot.value(), true, snapshot.age());
+    }
+}
@@ -2,27 +2,56 @@ package com.bancario.reports.client;
 
 import com.bancario.reports.dto.AccountResponse;
 import com.bancario.reports.dto.DailyBalanceHistoryDto;
+import com.bancario.reports.serialization.SmileAcceptFilter;
+import com.bancario.reports.serialization.SmileMessageBodyHandler;
 import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
-import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @RegisterRestClient(configKey = "account-service")
+@RegisterProvider(SmileMessageBodyHandler.class)
+@RegisterProvider(SmileAcceptFilter.class)
 @Produces(MediaType.APPLICATION_JSON)
 @Path("/accounts")
 public interface AccountServiceRestClient {
 
     @GET
-    @Retry
     Uni<List<AccountResponse>> getAccountsByCustomer(@QueryParam("customerId") String customerId);
 
+    /**
+     * Variante con proyección: fields (p. ej. "id,productType,balance") pide al account-service sólo esos campos
+     * de cada cuenta. Un servicio que no soporte el parámetro lo ignora y devuelve las cuentas completas.
+     * @param customerId El ID del cliente.
+     * @param fields Campos de AccountResponse separados por comas, o null para todos.
+     * @return Uni que emite la lista de cuentas del cliente.
+     */
+    @GET
+    Uni<List<AccountResponse>> getAccountsByCustomer(
+            @QueryParam("customerId") String customerId,
+            @QueryParam("fields") String fields
+    );
+
+    /**
+     * Obtiene en una sola llamada las cuentas de varios clientes.
+     * Cada AccountResponse incluye su customerId para agrupar la respuesta.
+     * @param customerIds Los IDs de los clientes del lote.
+     * @return Uni que emite la lista de cuentas de todos los clientes del lote.
+     */
+    @POST
+    @Path("/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    Uni<List<AccountResponse>> getAccountsByCustomers(List<String> customerIds);
+
     /**
      * Obtiene de forma asíncrona el historial de saldos diarios (EOD) para todos los productos
      * de un cliente dentro de un rango de fechas.
@@ -32,7 +61,6 @@ public interface AccountServiceRestClient {
      * @return Uni que emite una lista de DailyBalanceHistoryDto con los saldos diarios.
      */
     @GET
-    @Retry
     @Path("/daily-balances")
     Uni<List<DailyBalanceHistoryDto>> getDailyBalancesByCustomer(
             @QueryParam("customerId") String customerId,
@@ -1,14 +1,19 @@
 package com.bancario.reports.client;
 
 import com.bancario.reports.dto.CustomerResponse;
+import com.bancario.reports.serialization.SmileAcceptFilter;
+import com.bancario.reports.serialization.SmileMessageBodyHandler;
 import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 @Path("/customers")
 @RegisterRestClient(configKey = "customer-service")
+@RegisterProvider(SmileMessageBodyHandler.class)
+@RegisterProvider(SmileAcceptFilter.class)
 public interface CustomerServiceRestClient {
 
     @GET
@@ -2,26 +2,58 @@ package com.bancario.reports.client;
 
 import com.bancario.reports.dto.CommissionReportDto;
 import com.bancario.reports.dto.TransactionResponse;
+import com.bancario.reports.serialization.SmileAcceptFilter;
+import com.bancario.reports.serialization.SmileMessageBodyHandler;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
-import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Path("/transactions")
 @RegisterRestClient(configKey = "transactionsService")
+@RegisterProvider(SmileMessageBodyHandler.class)
+@RegisterProvider(SmileAcceptFilter.class)
 public interface TransactionsServiceRestClient {
 
+    /**
+     * Obtiene los movimientos de una cuenta. Los filtros opcionales (null = sin filtro) reducen lo que
+     * el Transaction-Service serializa; el servicio de reportes vuelve a aplicarlos sobre la respuesta.
+     * @param accountId El ID del producto bancario.
+     * @param startDate Fecha mínima del movimiento (inclusive).
+     * @param endDate Fecha máxima del movimiento (inclusive).
+     * @param limit Número máximo de movimientos, los más recientes primero.
+     * @return Uni que emite la lista de movimientos.
+     */
     @GET
-    @Retry
     @Produces(MediaType.APPLICATION_JSON)
-    Uni<List<TransactionResponse>> getTransactionsByAccountId(@QueryParam("accountId") String accountId);
+    Uni<List<TransactionResponse>> getTransactionsByAccountId(
+            @QueryParam("accountId") String accountId,
+            @QueryParam("startDate") LocalDate startDate,
+            @QueryParam("endDate") LocalDate endDate,
+            @QueryParam("limit") Integer limit
+    );
+
+    /**
+     * Variante en streaming de getTransactionsByAccountId: negocia application/x-ndjson con el
+     * Transaction-Service y emite cada movimiento a medida que llega (con backpressure).
+     * No se reintenta (ver TransactionsServiceGateway): reintentar un stream parcialmente consumido duplicaría movimientos.
+     * @param accountId El ID del producto bancario.
+     * @return Multi que emite los movimientos de la cuenta uno a uno.
+     */
+    @GET
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    Multi<TransactionResponse> streamTransactionsByAccountId(@QueryParam("accountId") String accountId);
 
     /**
      * Llama al endpoint del Transaction-Service para obtener el detalle de comisiones.
@@ -30,10 +62,25 @@ public interface TransactionsServiceRestClient {
      * @return Uni que emite una lista de CommissionReportDto.
      */
     @GET
-    @Retry
     @Path("/commissions")
     Uni<List<CommissionReportDto>> getCommissionsReportData(
             @QueryParam("startDate") LocalDate startDate,
             @QueryParam("endDate") LocalDate endDate
     );
+
+    /**
+     * Variante en streaming de getCommissionsReportData: negocia application/x-ndjson y emite
+     * cada comisión a medida que se parsea, sin materializar la lista completa.
+     * @param startDate La fecha de inicio del periodo.
+     * @param endDate La fecha de fin del periodo.
+     * @return Multi que emite cada CommissionReportDto.
+     */
+    @GET
+    @Path("/commissions")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    Multi<CommissionReportDto> streamCommissionsReportData(
+            @QueryParam("startDate") LocalDate startDate,
+            @QueryParam("endDate") LocalDate endDate
+    );
 }
\ No newline at end of file
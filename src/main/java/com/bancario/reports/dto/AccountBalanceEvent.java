@@ -0,0 +1,22 @@
+package com.bancario.reports.dto;
+
+import com.bancario.reports.enums.ProductType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Evento de cambio de saldo de una cuenta publicado por el account-service.
+ * version es creciente por cuenta: los eventos con una versión igual o anterior a la ya aplicada se descartan.
+ * availableBalance es el saldo disponible ya calculado (en productos ACTIVE, balance - amountUsed).
+ * occurredAt es el instante del cambio en el account-service: para las cuentas cargadas por consulta (sin versión
+ * conocida) se descartan los eventos anteriores al inicio de esa consulta, cuyo saldo ya incluye el cambio.
+ */
+public record AccountBalanceEvent(
+        String customerId,
+        String accountId,
+        ProductType productType,
+        BigDecimal availableBalance,
+        Long version,
+        Instant occurredAt
+) {}
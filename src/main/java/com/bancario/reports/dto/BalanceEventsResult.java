@@ -0,0 +1,11 @@
+package com.bancario.reports.dto;
+
+/**
+ * Resultado de la ingesta de un lote de eventos de saldo: aplicados, descartados por versión
+ * y descartados porque el cliente no estaba en la proyección.
+ */
+public record BalanceEventsResult(
+        int applied,
+        int stale,
+        int cold
+) {}
@@ -0,0 +1,8 @@
+package com.bancario.reports.dto;
+
+import java.util.List;
+
+/**
+ * DTO de entrada para consultar los saldos de varios clientes en una sola llamada.
+ */
+public record BatchBalancesRequest(List<String> customerIds) {}
@@ -0,0 +1,13 @@
+package com.bancario.reports.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Respuesta de POST /reports/balances/batch: saldos por cliente en el orden recibido y los clientes
+ * sin datos (su consulta falló y no había last-known-good).
+ */
+public record BatchBalancesResponse(
+        Map<String, CustomerBalances> balances,
+        List<String> missingCustomerIds
+) {}
@@ -0,0 +1,14 @@
+package com.bancario.reports.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO de entrada para el cálculo masivo del Saldo Promedio Diario (SPD)
+ * de muchos clientes sobre un mismo periodo (p. ej. cierre de mes).
+ */
+public record BulkDailyAverageRequest(
+        List<String> customerIds,
+        LocalDate startDate,
+        LocalDate endDate
+) {}
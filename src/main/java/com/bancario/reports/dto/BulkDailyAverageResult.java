@@ -0,0 +1,23 @@
+package com.bancario.reports.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resultado individual del cálculo masivo de SPD.
+ * Cada cliente produce un resultado con el reporte o con el error que impidió calcularlo,
+ * de modo que un fallo aislado no interrumpe el lote completo.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkDailyAverageResult(
+        String customerId,
+        DailyAverageBalanceReportDto report,
+        String error
+) {
+    public static BulkDailyAverageResult success(DailyAverageBalanceReportDto report) {
+        return new BulkDailyAverageResult(report.customerId(), report, null);
+    }
+
+    public static BulkDailyAverageResult failure(String customerId, String error) {
+        return new BulkDailyAverageResult(customerId, null, error);
+    }
+}
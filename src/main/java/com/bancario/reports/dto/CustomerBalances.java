@@ -0,0 +1,26 @@
+package com.bancario.reports.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Saldos de un cliente dentro de la respuesta por lote.
+ * Si la consulta al Account-Service falló y se sirve la última respuesta correcta, stale es true y
+ * ageSeconds indica su antigüedad (equivalentes a las cabeceras X-Stale y Age de /reports/balances).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomerBalances(
+        List<BalanceReportDTO> balances,
+        boolean stale,
+        Long ageSeconds
+) {
+    public static CustomerBalances current(List<BalanceReportDTO> balances) {
+        return new CustomerBalances(balances, false, null);
+    }
+
+    public static CustomerBalances lastKnownGood(List<BalanceReportDTO> balances, Duration age) {
+        return new CustomerBalances(balances, true, age.toSeconds());
+    }
+}
@@ -0,0 +1,12 @@
+package com.bancario.reports.dto;
+
+import java.util.List;
+
+/**
+ * DTO de entrada para calcular el Saldo Promedio Diario (SPD) de un cliente
+ * sobre varias ventanas (p. ej. 30/60/90/365 días) en una sola llamada.
+ */
+public record DailyAverageWindowsRequest(
+        String customerId,
+        List<DateWindow> windows
+) {}
@@ -0,0 +1,11 @@
+package com.bancario.reports.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Ventana de fechas [startDate, endDate] (ambos inclusive) para reportes por periodo.
+ */
+public record DateWindow(
+        LocalDate startDate,
+        LocalDate endDate
+) {}
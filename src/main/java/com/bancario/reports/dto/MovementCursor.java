@@ -0,0 +1,100 @@
+package com.bancario.reports.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Posición (keyset) del último movimiento entregado en una página de /reports/movements.
+ * Los movimientos se ordenan del más reciente al más antiguo por (transactionDate, id), por lo que
+ * la página siguiente empieza en el primer movimiento estrictamente posterior a esta posición en ese orden.
+ * <p>
+ * Como (transactionDate, id) puede repetirse (p. ej. movimientos de la misma fecha sin id), el cursor guarda
+ * también tieOffset, el número de movimientos ya entregados con esa misma clave, que la página siguiente omite.
+ * dayOffset es el número de movimientos ya entregados del día de transactionDate (null si no se conoce): el
+ * Transaction-Service devuelve ese día completo de nuevo, por lo que la página siguiente le pide dayOffset + limit + 1.
+ * <p>
+ * Se serializa como Base64 URL-safe de "tieOffset|dayOffset|transactionDate|id"; su contenido es opaco para el cliente.
+ */
+public record MovementCursor(LocalDateTime transactionDate, String id, int tieOffset, Integer dayOffset) {
+
+    /**
+     * Orden de las páginas: del más reciente al más antiguo y, a igual fecha, por id descendente.
+     */
+    public static final Comparator<MovementCursor> NEWEST_FIRST = Comparator
+            .comparing(MovementCursor::transactionDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(MovementCursor::id, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Posición de un movimiento (sin desplazamientos), para ordenarlo y compararlo con el cursor.
+     */
+    public static MovementCursor of(TransactionResponse transaction) {
+        return new MovementCursor(transaction.transactionDate(), transaction.id(), 0, null);
+    }
+
+    /**
+     * Cursor de la página siguiente a page, que empezó en previous (null en la primera página).
+     */
+    public static MovementCursor next(List<TransactionResponse> page, MovementCursor previous) {
+        MovementCursor last = of(page.get(page.size() - 1));
+        LocalDate day = last.day();
+
+        int ties = previous != null && NEWEST_FIRST.compare(last, previous) == 0 ? previous.tieOffset() : 0;
+        Integer dayOffset = null;
+        if (day != null) {
+            boolean sameDay = previous != null && day.equals(previous.day());
+            dayOffset = !sameDay ? Integer.valueOf(0) : previous.dayOffset();
+        }
+        for (TransactionResponse transaction : page) {
+            MovementCursor position = of(transaction);
+            if (NEWEST_FIRST.compare(position, last) == 0) {
+                ties++;
+            }
+            if (dayOffset != null && day.equals(position.day())) {
+                dayOffset++;
+            }
+        }
+        return new MovementCursor(last.transactionDate(), last.id(), ties, dayOffset);
+    }
+
+    private LocalDate day() {
+        return transactionDate == null ? null : transactionDate.toLocalDate();
+    }
+
+    public String encode() {
+        String raw = tieOffset + SEPARATOR + (dayOffset == null ? "" : dayOffset) + SEPARATOR
+                + (transactionDate == null ? "" : transactionDate.toString()) + SEPARATOR + (id == null ? "" : id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException Si el cursor no fue generado por este servicio (mapeado a 400).
+     */
+    public static MovementCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("El cursor de paginación es inválido.");
+            }
+            int tieOffset = Integer.parseInt(parts[0]);
+            Integer dayOffset = parts[1].isEmpty() ? null : Integer.valueOf(parts[1]);
+            if (tieOffset < 1 || (dayOffset != null && dayOffset < tieOffset)) {
+                throw new IllegalArgumentException("El cursor de paginación es inválido.");
+            }
+            return new MovementCursor(
+                    parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]),
+                    parts[3].isEmpty() ? null : parts[3],
+                    tieOffset,
+                    dayOffset);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("El cursor de paginación es inválido.", e);
+        }
+    }
+}
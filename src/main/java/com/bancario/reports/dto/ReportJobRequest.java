@@ -0,0 +1,18 @@
+package com.bancario.reports.dto;
+
+import com.bancario.reports.enums.PartitionGranularity;
+import com.bancario.reports.enums.ReportJobType;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de entrada para encolar un reporte pesado como job asíncrono.
+ * customerId sólo aplica a DAILY_AVERAGE_BALANCE y partition sólo a COMMISSIONS (por defecto NONE).
+ */
+public record ReportJobRequest(
+        ReportJobType type,
+        String customerId,
+        LocalDate startDate,
+        LocalDate endDate,
+        PartitionGranularity partition
+) {}
@@ -0,0 +1,26 @@
+package com.bancario.reports.dto;
+
+import com.bancario.reports.enums.ReportJobStatus;
+import com.bancario.reports.enums.ReportJobType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * Estado de un job de reporte asíncrono.
+ * progress va de 0 a 100; result sólo está presente en COMPLETED y error sólo en FAILED.
+ * expiresAt indica hasta cuándo se conserva el resultado una vez terminado el job.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReportJobResponse(
+        String jobId,
+        ReportJobType type,
+        ReportJobStatus status,
+        int progress,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant completedAt,
+        Instant expiresAt,
+        Object result,
+        String error
+) {}
@@ -0,0 +1,12 @@
+package com.bancario.reports.dto;
+
+import java.util.List;
+
+/**
+ * Página de movimientos de una cuenta, del más reciente al más antiguo.
+ * nextCursor es null cuando no hay más movimientos en el rango consultado.
+ */
+public record TransactionPage(
+        List<TransactionResponse> items,
+        String nextCursor
+) {}
@@ -0,0 +1,52 @@
+package com.bancario.reports.entity;
+
+import com.bancario.reports.enums.ProductType;
+import io.quarkus.mongodb.panache.common.MongoEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.codecs.pojo.annotations.BsonId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Rollup de comisiones de un día cerrado: total de fees por productName.
+ * <p>
+ * Se persiste un documento por día, incluso sin comisiones, para distinguir
+ * "día sin comisiones" de "día aún no agregado". Un día sin comisiones puede deberse a comisiones que el
+ * Transaction-Service registra con retraso, por lo que lleva {@code expiresAt} y el índice TTL lo elimina para
+ * volver a consultarlo; los días con comisiones no caducan (expiresAt = null). El _id es la fecha ISO.
+ * undatedProducts son las comisiones sin transactionDate del tramo consultado que empezó en este día
+ * (null si el día no inició un tramo); forman parte del total del día en los reportes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@MongoEntity(collection = "commission_day_rollups")
+public class CommissionDayRollup {
+
+    @BsonId
+    private String id;
+    private LocalDate date;
+    private List<ProductFees> products;
+    private List<ProductFees> undatedProducts;
+    private Instant expiresAt;
+
+    /**
+     * Total de comisiones de un producto dentro del día.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductFees {
+        private String productName;
+        private ProductType productType;
+        private BigDecimal totalFees;
+    }
+}
@@ -0,0 +1,56 @@
+package com.bancario.reports.entity;
+
+import io.quarkus.mongodb.panache.common.MongoEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.codecs.pojo.annotations.BsonId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Snapshot materializado de los saldos EOD de un cliente para un día cerrado.
+ * <p>
+ * Se guarda un documento por (customerId, date), incluso si el día no tiene productos,
+ * para distinguir "día sin saldos" de "día aún no materializado". Un día sin productos puede deberse a
+ * filas que el account-service todavía no había cargado, por lo que lleva {@code expiresAt} y el índice TTL
+ * lo elimina para volver a consultarlo; los días con productos no caducan (expiresAt = null).
+ * El _id es determinista ({@code customerId:date}) para que las re-escrituras sean idempotentes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@MongoEntity(collection = "daily_balance_snapshots")
+public class DailyBalanceSnapshot {
+
+    @BsonId
+    private String id;
+    private String customerId;
+    private LocalDate date;
+    private List<ProductBalance> products;
+    private Instant expiresAt;
+
+    public static String idOf(String customerId, LocalDate date) {
+        return customerId + ":" + date;
+    }
+
+    /**
+     * Saldo EOD de un producto dentro del snapshot diario.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductBalance {
+        private String productId;
+        private String accountType;
+        private String productType;
+        private BigDecimal balanceEOD;
+        private BigDecimal amountUsedEOD;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bancario.reports.enums;
+
+public enum ComputeMode {
+    EVENT_LOOP,     // El cálculo se ejecuta en el hilo que recibe la respuesta (por defecto)
+    WORKER,         // Pool de workers dedicado al cálculo de reportes
+    VIRTUAL_THREAD  // Un hilo virtual por cálculo
+}
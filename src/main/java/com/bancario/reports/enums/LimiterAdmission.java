@@ -0,0 +1,6 @@
+package com.bancario.reports.enums;
+
+public enum LimiterAdmission {
+    REJECT, // Peticiones de primer nivel: sin permiso libre se rechazan al instante (HTTP 503)
+    WAIT    // Fan-out interno (SPD masivo, saldos por lote): espera un permiso hasta max-wait antes de rechazarse
+}
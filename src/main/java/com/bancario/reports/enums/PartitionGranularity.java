@@ -0,0 +1,7 @@
+package com.bancario.reports.enums;
+
+public enum PartitionGranularity {
+    NONE,   // Una sola llamada para todo el rango
+    DAY,    // Una partición por día
+    WEEK    // Particiones de 7 días a partir de la fecha de inicio
+}
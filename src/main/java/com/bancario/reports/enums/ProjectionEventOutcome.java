@@ -0,0 +1,8 @@
+package com.bancario.reports.enums;
+
+public enum ProjectionEventOutcome {
+    APPLIED,    // El evento actualizó la proyección
+    STALE,      // Versión igual o anterior a la ya aplicada (duplicado o fuera de orden) o, sin versión conocida,
+                // ocurrido antes de la consulta que cargó la cuenta; se descarta
+    COLD        // El cliente no está en la proyección; se descarta y se cargará del account-service al consultarlo
+}
@@ -0,0 +1,8 @@
+package com.bancario.reports.enums;
+
+public enum ReportJobStatus {
+    QUEUED,     // Aceptado, a la espera de un hilo del pool de jobs
+    RUNNING,    // En ejecución
+    COMPLETED,  // Terminado; el resultado se conserva durante el TTL
+    FAILED      // Terminado con error; el mensaje se conserva durante el TTL
+}
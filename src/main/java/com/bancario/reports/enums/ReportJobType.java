@@ -0,0 +1,6 @@
+package com.bancario.reports.enums;
+
+public enum ReportJobType {
+    COMMISSIONS,            // Reporte agregado de comisiones por producto
+    DAILY_AVERAGE_BALANCE   // Saldo Promedio Diario (SPD) de un cliente
+}
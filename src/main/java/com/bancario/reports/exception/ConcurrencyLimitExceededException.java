@@ -0,0 +1,12 @@
+package com.bancario.reports.exception;
+
+/**
+ * Excepción lanzada cuando el limitador de concurrencia adaptativo de un servicio externo
+ * rechaza una llamada porque ya hay tantas en curso como su límite actual.
+ * La llamada no se encola ni se envía, y se mapea a HTTP 503 (Service Unavailable).
+ */
+public class ConcurrencyLimitExceededException extends ServiceUnavailableException {
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
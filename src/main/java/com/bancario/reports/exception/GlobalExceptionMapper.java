@@ -29,6 +29,10 @@ public class GlobalExceptionMapper implements ExceptionMapper<Exception> {
                 status = Response.Status.INTERNAL_SERVER_ERROR.getStatusCode();
                 error = "Database Error";
             }
+            case UnauthorizedException unauthorizedException -> {
+                status = Response.Status.UNAUTHORIZED.getStatusCode();
+                error = "Unauthorized";
+            }
             case ServiceUnavailableException serviceUnavailableException -> {
                 status = Response.Status.SERVICE_UNAVAILABLE.getStatusCode();
                 error = "Service Unavailable (Fault Tolerance)";
@@ -0,0 +1,11 @@
+package com.bancario.reports.exception;
+
+/**
+ * Excepción lanzada cuando una petición a un endpoint interno no trae la credencial esperada,
+ * mapeada a un código HTTP 401 (Unauthorized).
+ */
+public class UnauthorizedException extends RuntimeException {
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
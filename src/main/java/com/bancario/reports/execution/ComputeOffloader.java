@@ -0,0 +1,150 @@
+package com.bancario.reports.execution;
+
+import com.bancario.reports.enums.ComputeMode;
+import com.bancario.reports.metrics.ReportsMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta las etapas de cálculo intensivo de los reportes (agregaciones, SPD, mapeos) según el modo
+ * configurado por reporte, para no bloquear los hilos de E/S de Vert.x con payloads grandes.
+ * <p>
+ * El modo de cada reporte se lee de reports-service.compute.&lt;report&gt;.mode
+ * (por defecto reports-service.compute.mode):
+ * <ul>
+ * <li>EVENT_LOOP: el cálculo se ejecuta en el hilo que recibe la respuesta del servicio externo.</li>
+ * <li>WORKER: pool dedicado de reports-service.compute.worker.pool-size hilos.</li>
+ * <li>VIRTUAL_THREAD: un hilo virtual por cálculo.</li>
+ * </ul>
+ * Al terminar el cálculo, el resultado se vuelve a emitir en el contexto Vert.x original (si lo había).
+ * Cada etapa se mide en reports.stage con la etiqueta thread, lo que permite comparar el tiempo de
+ * bloqueo del event loop antes y después de cambiar el modo.
+ */
+@Slf4j
+@ApplicationScoped
+public class ComputeOffloader {
+
+    private static final String MODE_PROPERTY = "reports-service.compute.%s.mode";
+
+    @Inject
+    ReportsMetrics metrics;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Config config;
+
+    @ConfigProperty(name = "reports-service.compute.mode", defaultValue = "EVENT_LOOP")
+    ComputeMode defaultMode;
+
+    @ConfigProperty(name = "reports-service.compute.worker.pool-size", defaultValue = "4")
+    int workerPoolSize;
+
+    private final Map<String, ComputeMode> modes = new ConcurrentHashMap<>();
+
+    private ExecutorService workerPool;
+    private ExecutorService virtualThreads;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workerPoolSize, runnable -> {
+            Thread thread = new Thread(runnable, "report-compute-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        workerPool = ExecutorServiceMetrics.monitor(registry, pool, "report-compute");
+        virtualThreads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("report-compute-vt-", 0).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workerPool.shutdownNow();
+        virtualThreads.shutdownNow();
+    }
+
+    /**
+     * Ejecuta una etapa de cálculo del reporte en el modo configurado y la mide en reports.stage.
+     *
+     * @param report Nombre del reporte (también sufijo de la propiedad de modo).
+     * @param stage  Nombre de la etapa.
+     * @param work   Cálculo síncrono a ejecutar.
+     * @return Uni que emite el resultado del cálculo.
+     */
+    public <T> Uni<T> compute(String report, String stage, Supplier<T> work) {
+        Uni<T> computation = Uni.createFrom().item(() -> metrics.timeStage(report, stage, work));
+
+        ComputeMode mode = modeFor(report);
+        if (mode == ComputeMode.EVENT_LOOP) {
+            return computation;
+        }
+
+        return Uni.createFrom().deferred(() -> {
+            Context context = Vertx.currentContext();
+            Uni<T> offloaded = computation.runSubscriptionOn(mode == ComputeMode.VIRTUAL_THREAD ? virtualThreads : workerPool);
+            // Se vuelve al contexto Vert.x de la petición para el resto del pipeline.
+            return context == null
+                    ? offloaded
+                    : offloaded.emitOn(task -> context.runOnContext(ignored -> task.run()));
+        });
+    }
+
+    /**
+     * Pliega un stream en un acumulador en el modo configurado para el reporte: fuera de EVENT_LOOP cada elemento
+     * se entrega al acumulador en el pool del modo (emitOn) en lugar del hilo de E/S que lo parsea, y el resultado
+     * se vuelve a emitir en el contexto Vert.x original. Como el pliegue se reparte entre los elementos, no se
+     * mide en reports.stage.
+     *
+     * @param report      Nombre del reporte (también sufijo de la propiedad de modo).
+     * @param items       Stream a plegar; cada suscripción crea un acumulador nuevo.
+     * @param supplier    Crea el acumulador.
+     * @param accumulator Suma un elemento al acumulador.
+     * @return Uni que emite el acumulador al completarse el stream.
+     */
+    public <T, A> Uni<A> fold(String report, Multi<T> items, Supplier<A> supplier, BiConsumer<A, T> accumulator) {
+        ComputeMode mode = modeFor(report);
+        if (mode == ComputeMode.EVENT_LOOP) {
+            return items.collect().in(supplier, accumulator);
+        }
+
+        return Uni.createFrom().deferred(() -> {
+            Context context = Vertx.currentContext();
+            Uni<A> folded = items.emitOn(mode == ComputeMode.VIRTUAL_THREAD ? virtualThreads : workerPool)
+                    .collect().in(supplier, accumulator);
+            return context == null
+                    ? folded
+                    : folded.emitOn(task -> context.runOnContext(ignored -> task.run()));
+        });
+    }
+
+    /**
+     * Modo configurado para un reporte.
+     */
+    public ComputeMode modeFor(String report) {
+        return modes.computeIfAbsent(report, name -> {
+            ComputeMode mode = config.getOptionalValue(MODE_PROPERTY.formatted(name), ComputeMode.class).orElse(defaultMode);
+            log.info("COMPUTE | Reporte '{}' ejecuta sus cálculos en modo {}.", name, mode);
+            return mode;
+        });
+    }
+}
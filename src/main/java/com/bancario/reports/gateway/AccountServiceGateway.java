@@ -0,0 +1,113 @@
+package com.bancario.reports.gateway;
+
+import com.bancario.reports.client.AccountServiceRestClient;
+import com.bancario.reports.dto.AccountResponse;
+import com.bancario.reports.dto.DailyBalanceHistoryDto;
+import com.bancario.reports.enums.LimiterAdmission;
+import com.bancario.reports.metrics.ReportsMetrics;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Punto de acceso único al account-service.
+ * Las llamadas concurrentes idénticas se agrupan para que compartan una sola petición en curso,
+ * los fallos transitorios se reintentan ({@link UpstreamRetry}) y cada intento pasa por el limitador de
+ * concurrencia adaptativo de su método ({@link ConcurrencyLimiters}). Los fan-out internos piden
+ * {@link LimiterAdmission#WAIT} para esperar un permiso; una llamada agrupada hereda la admisión de la primera.
+ */
+@ApplicationScoped
+public class AccountServiceGateway {
+
+    static final String CLIENT = "account-service";
+
+    @Inject
+    @RestClient
+    AccountServiceRestClient accountServiceRestClient;
+
+    @Inject
+    ReportsMetrics metrics;
+
+    @Inject
+    ConcurrencyLimiters limiters;
+
+    @Inject
+    UpstreamRetry retry;
+
+    // Hedging opcional de la consulta rápida (cada hedge ocupa su propio permiso del limitador).
+    @Inject
+    RequestHedgers hedgers;
+
+    @ConfigProperty(name = "reports-service.coalescing.enabled", defaultValue = "true")
+    boolean coalescingEnabled;
+
+    private final RequestCoalescer<String, List<AccountResponse>> accountsByCustomer = new RequestCoalescer<>();
+    private final RequestCoalescer<ProjectedAccountsKey, List<AccountResponse>> projectedAccountsByCustomer = new RequestCoalescer<>();
+    private final RequestCoalescer<DailyBalancesKey, List<DailyBalanceHistoryDto>> dailyBalances = new RequestCoalescer<>();
+
+    public Uni<List<AccountResponse>> getAccountsByCustomer(String customerId) {
+        return getAccountsByCustomer(customerId, LimiterAdmission.REJECT);
+    }
+
+    public Uni<List<AccountResponse>> getAccountsByCustomer(String customerId, LimiterAdmission admission) {
+        return coalesce(accountsByCustomer, customerId,
+                () -> hedgers.execute(CLIENT, "getAccountsByCustomer",
+                        () -> call("getAccountsByCustomer", admission,
+                                () -> accountServiceRestClient.getAccountsByCustomer(customerId))));
+    }
+
+    /**
+     * Cuentas del cliente con proyección de campos (null = todos, igual que {@link #getAccountsByCustomer(String)}).
+     */
+    public Uni<List<AccountResponse>> getAccountsByCustomer(String customerId, String fields) {
+        if (fields == null) {
+            return getAccountsByCustomer(customerId);
+        }
+        return coalesce(projectedAccountsByCustomer, new ProjectedAccountsKey(customerId, fields),
+                () -> hedgers.execute(CLIENT, "getAccountsByCustomer",
+                        () -> call("getAccountsByCustomer", LimiterAdmission.REJECT,
+                                () -> accountServiceRestClient.getAccountsByCustomer(customerId, fields))));
+    }
+
+    /**
+     * Consulta por lotes: no se agrupa ni se hace hedging (cada lote es distinto y no es una consulta rápida).
+     * Sólo la usa el fan-out de saldos por lote, así que espera un permiso del limitador.
+     */
+    public Uni<List<AccountResponse>> getAccountsByCustomers(List<String> customerIds) {
+        return call("getAccountsByCustomers", LimiterAdmission.WAIT,
+                () -> accountServiceRestClient.getAccountsByCustomers(customerIds));
+    }
+
+    public Uni<List<DailyBalanceHistoryDto>> getDailyBalancesByCustomer(String customerId, LocalDate startDate, LocalDate endDate) {
+        return getDailyBalancesByCustomer(customerId, startDate, endDate, LimiterAdmission.REJECT);
+    }
+
+    public Uni<List<DailyBalanceHistoryDto>> getDailyBalancesByCustomer(
+            String customerId, LocalDate startDate, LocalDate endDate, LimiterAdmission admission) {
+        return coalesce(dailyBalances, new DailyBalancesKey(customerId, startDate, endDate),
+                () -> call("getDailyBalancesByCustomer", admission,
+                        () -> accountServiceRestClient.getDailyBalancesByCustomer(customerId, startDate, endDate)));
+    }
+
+    /**
+     * Llamada real con reintentos; cada intento ocupa un permiso del limitador del método y se mide por separado.
+     */
+    private <T> Uni<T> call(String method, LimiterAdmission admission, Supplier<Uni<T>> request) {
+        return retry.execute(CLIENT, method,
+                () -> limiters.execute(CLIENT, method, admission, () -> metrics.timeUpstream(CLIENT, method, request)));
+    }
+
+    private <K, V> Uni<V> coalesce(RequestCoalescer<K, V> coalescer, K key, Supplier<Uni<V>> call) {
+        return coalescingEnabled ? coalescer.execute(key, call) : call.get();
+    }
+
+    private record ProjectedAccountsKey(String customerId, String fields) {}
+
+    private record DailyBalancesKey(String customerId, LocalDate startDate, LocalDate endDate) {}
+}
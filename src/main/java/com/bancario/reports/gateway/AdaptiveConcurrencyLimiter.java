@@ -0,0 +1,311 @@
+package com.bancario.reports.gateway;
+
+import com.bancario.reports.exception.ConcurrencyLimitExceededException;
+import com.fasterxml.jackson.core.JacksonException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.http.HttpClosedException;
+import jakarta.ws.rs.WebApplicationException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Limitador de concurrencia adaptativo (AIMD) para un tipo de llamada a un servicio externo.
+ * <p>
+ * Como mucho {@link #limit()} llamadas están en curso a la vez. Por defecto las que exceden el límite se rechazan
+ * de inmediato con {@link ConcurrencyLimitExceededException}; las de un fan-out interno pueden esperar un permiso
+ * ({@link #execute(Supplier, Duration)}), en orden de llegada, hasta un tiempo máximo, de modo que el fan-out se
+ * ralentiza al ritmo del límite en lugar de fallar elemento a elemento. El límite se ajusta con cada llamada
+ * completada:
+ * <ul>
+ * <li>Aumento aditivo (+1) si la llamada fue rápida y el límite se estaba usando (en curso ≥ límite / 2).</li>
+ * <li>Disminución multiplicativa (× backoffRatio) si la llamada superó el umbral de latencia o falló por
+ * sobrecarga (timeout, error de E/S o HTTP 5xx). Los 4xx, los errores de deserialización y los rechazos de
+ * otros limitadores no son señal de sobrecarga.</li>
+ * </ul>
+ * Las llamadas canceladas liberan su permiso sin ajustar el límite. Cada ejecución es un único intento: los
+ * reintentos se suscriben de nuevo y reservan otro permiso, por lo que la espera entre intentos no cuenta
+ * como latencia del servicio externo.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Object REJECTED = new Object();
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final Runnable onRejected;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimiter(
+            String name,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double backoffRatio,
+            long latencyThresholdMs,
+            Runnable onRejected
+    ) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.onRejected = onRejected;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Ejecuta la llamada si hay un permiso libre; en caso contrario falla de inmediato.
+     */
+    public <T> Uni<T> execute(Supplier<Uni<T>> call) {
+        return execute(call, Duration.ZERO);
+    }
+
+    /**
+     * Ejecuta la llamada con un permiso; si no hay ninguno libre espera hasta maxWait a que se libere uno
+     * y, agotado ese tiempo, falla con {@link ConcurrencyLimitExceededException}. La espera no cuenta como latencia.
+     */
+    public <T> Uni<T> execute(Supplier<Uni<T>> call, Duration maxWait) {
+        return acquire(maxWait).onItem().transformToUni(permit -> {
+            permit.claim();
+            long start = System.nanoTime();
+            return Uni.createFrom().deferred(call)
+                    .onTermination().invoke((item, failure, cancelled) -> {
+                        permit.release();
+                        if (!cancelled) {
+                            onSample(System.nanoTime() - start, failure, permit.inFlightAtStart);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Variante para streams: el permiso se mantiene hasta que el stream termina.
+     * Sólo los fallos ajustan el límite (la duración de un stream no es una medida de latencia).
+     */
+    public <T> Multi<T> executeStream(Supplier<Multi<T>> call) {
+        return Multi.createFrom().deferred(() -> {
+            Permit permit = tryAcquire();
+            if (permit == null) {
+                return Multi.createFrom().failure(rejection());
+            }
+            permit.claim();
+            return Multi.createFrom().deferred(call)
+                    .onTermination().invoke((failure, cancelled) -> {
+                        permit.release();
+                        if (failure != null && isOverloadSignal(failure)) {
+                            decrease();
+                        }
+                    });
+        });
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int waiting() {
+        return waiters.size();
+    }
+
+    /**
+     * Emite un permiso en cuanto hay uno libre, o falla con la excepción de rechazo si no lo hay tras maxWait.
+     * Si la suscripción se cancela con el permiso ya concedido pero sin usar, el permiso se devuelve.
+     */
+    private Uni<Permit> acquire(Duration maxWait) {
+        return Uni.createFrom().emitter(emitter -> {
+            Waiter waiter = new Waiter(emitter);
+            emitter.onTermination(waiter::terminate);
+            Permit permit = tryAcquire();
+            if (permit != null) {
+                if (!waiter.grant(permit)) {
+                    permit.releaseUnclaimed();
+                }
+                return;
+            }
+            if (maxWait.isZero() || maxWait.isNegative()) {
+                waiter.reject();
+                return;
+            }
+            waiters.add(waiter);
+            waiter.timeout = Infrastructure.getDefaultWorkerPool().schedule(waiter::reject, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            // Un permiso pudo liberarse mientras se encolaba.
+            grantWaiters();
+        });
+    }
+
+    /**
+     * Reserva un permiso, o null si se alcanzó el límite.
+     */
+    private Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1);
+            }
+        }
+    }
+
+    /**
+     * Entrega los permisos libres a las llamadas en espera, en orden de llegada.
+     */
+    private void grantWaiters() {
+        while (!waiters.isEmpty()) {
+            Permit permit = tryAcquire();
+            if (permit == null) {
+                return;
+            }
+            Waiter waiter = waiters.poll();
+            if (waiter == null || !waiter.grant(permit)) {
+                // Nadie lo recibió: se devuelve sin volver a recorrer la cola.
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private ConcurrencyLimitExceededException rejection() {
+        onRejected.run();
+        return new ConcurrencyLimitExceededException(
+                "Se alcanzó el límite de llamadas concurrentes hacia " + name + " (" + limit + "). Intente nuevamente más tarde.");
+    }
+
+    private void onSample(long rttNanos, Throwable failure, int inFlightAtStart) {
+        if ((failure != null && isOverloadSignal(failure)) || rttNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (failure == null && inFlightAtStart * 2 >= limit) {
+            increase();
+            grantWaiters();
+        }
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1);
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, (int) (limit * backoffRatio));
+    }
+
+    /**
+     * Sólo los timeouts, los errores de conexión/E/S y los HTTP 5xx indican sobrecarga del servicio externo.
+     * Se recorre la cadena de causas porque el cliente REST envuelve los errores en ProcessingException;
+     * los errores de deserialización (JacksonException, que también es una IOException) y demás fallos
+     * del lado del cliente no ajustan el límite.
+     */
+    private static boolean isOverloadSignal(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof WebApplicationException webApplicationException) {
+                return webApplicationException.getResponse().getStatus() >= 500;
+            }
+            if (cause instanceof JacksonException) {
+                return false;
+            }
+            if (cause instanceof TimeoutException
+                    || cause instanceof org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException
+                    || cause instanceof IOException
+                    || cause instanceof HttpClosedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Permiso reservado. Lo libera la llamada al terminar o, si nunca llegó a usarse, la suscripción cancelada.
+     */
+    private final class Permit {
+
+        private static final int GRANTED = 0;
+        private static final int CLAIMED = 1;
+        private static final int RELEASED = 2;
+
+        private final int inFlightAtStart;
+        private final AtomicInteger state = new AtomicInteger(GRANTED);
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        private void claim() {
+            state.compareAndSet(GRANTED, CLAIMED);
+        }
+
+        private void release() {
+            if (state.getAndSet(RELEASED) != RELEASED) {
+                inFlight.decrementAndGet();
+                grantWaiters();
+            }
+        }
+
+        private void releaseUnclaimed() {
+            if (state.compareAndSet(GRANTED, RELEASED)) {
+                inFlight.decrementAndGet();
+                grantWaiters();
+            }
+        }
+    }
+
+    /**
+     * Suscripción a la espera de un permiso: se resuelve una sola vez, con un permiso o con el rechazo.
+     */
+    private final class Waiter {
+
+        private final UniEmitter<? super Permit> emitter;
+        // null mientras espera; después el Permit concedido o REJECTED.
+        private final AtomicReference<Object> outcome = new AtomicReference<>();
+        private volatile ScheduledFuture<?> timeout;
+
+        private Waiter(UniEmitter<? super Permit> emitter) {
+            this.emitter = emitter;
+        }
+
+        private boolean grant(Permit permit) {
+            if (!outcome.compareAndSet(null, permit)) {
+                return false;
+            }
+            emitter.complete(permit);
+            return true;
+        }
+
+        private void reject() {
+            if (outcome.compareAndSet(null, REJECTED)) {
+                emitter.fail(rejection());
+            }
+        }
+
+        private void terminate() {
+            waiters.remove(this);
+            ScheduledFuture<?> pending = timeout;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            if (!outcome.compareAndSet(null, REJECTED) && outcome.get() instanceof Permit permit) {
+                permit.releaseUnclaimed();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.bancario.reports.gateway;
+
+import com.bancario.reports.enums.LimiterAdmission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Un {@link AdaptiveConcurrencyLimiter} por cliente REST (clave de configuración de @RegisterRestClient:
+ * account-service, customer-service, transactionsService) y método, de modo que cada tipo de llamada se ajusta
+ * con su propio umbral de latencia: una consulta analítica lenta no reduce el límite de las consultas rápidas
+ * del mismo servicio.
+ * <p>
+ * Cada parámetro se lee de reports-service.limiter.&lt;client&gt;.&lt;method&gt;.&lt;param&gt;, si no existe de
+ * reports-service.limiter.&lt;client&gt;.&lt;param&gt; y, por último, de reports-service.limiter.&lt;param&gt;.
+ * Las peticiones de primer nivel se rechazan al instante sin permiso libre ({@link LimiterAdmission#REJECT});
+ * los fan-out internos ({@link LimiterAdmission#WAIT}) esperan un permiso hasta reports-service.limiter.fan-out.max-wait.ms.
+ * Se publican en /q/metrics: {@value #LIMIT_GAUGE}, {@value #IN_FLIGHT_GAUGE}, {@value #WAITING_GAUGE} y
+ * {@value #REJECTED_COUNTER}, por client y method.
+ */
+@Slf4j
+@ApplicationScoped
+public class ConcurrencyLimiters {
+
+    public static final String LIMIT_GAUGE = "reports.limiter.limit";
+    public static final String IN_FLIGHT_GAUGE = "reports.limiter.inflight";
+    public static final String WAITING_GAUGE = "reports.limiter.waiting";
+    public static final String REJECTED_COUNTER = "reports.limiter.rejected";
+
+    private static final String PREFIX = "reports-service.limiter.";
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Config config;
+
+    @ConfigProperty(name = "reports-service.limiter.enabled", defaultValue = "true")
+    boolean enabled;
+
+    // Espera máxima de un permiso en los fan-out internos antes de rechazar la llamada.
+    @ConfigProperty(name = "reports-service.limiter.fan-out.max-wait.ms", defaultValue = "1000")
+    long fanOutMaxWaitMs;
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Ejecuta un intento de la llamada bajo el limitador de client/method. Los reintentos van por fuera
+     * ({@link UpstreamRetry}), de modo que cada intento reserva su propio permiso y aporta su propia muestra.
+     */
+    public <T> Uni<T> execute(String client, String method, Supplier<Uni<T>> call) {
+        return execute(client, method, LimiterAdmission.REJECT, call);
+    }
+
+    /**
+     * Igual que {@link #execute(String, String, Supplier)}; con {@link LimiterAdmission#WAIT} la llamada espera
+     * un permiso en lugar de rechazarse al instante.
+     */
+    public <T> Uni<T> execute(String client, String method, LimiterAdmission admission, Supplier<Uni<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        Duration maxWait = admission == LimiterAdmission.WAIT ? Duration.ofMillis(fanOutMaxWaitMs) : Duration.ZERO;
+        return limiterFor(client, method).execute(call, maxWait);
+    }
+
+    public <T> Multi<T> executeStream(String client, String method, Supplier<Multi<T>> call) {
+        return enabled ? limiterFor(client, method).executeStream(call) : call.get();
+    }
+
+    AdaptiveConcurrencyLimiter limiterFor(String client, String method) {
+        return limiters.computeIfAbsent(client + "/" + method, key -> create(client, method));
+    }
+
+    private AdaptiveConcurrencyLimiter create(String client, String method) {
+        Counter rejected = registry.counter(REJECTED_COUNTER, "client", client, "method", method);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                client + "/" + method,
+                property(client, method, "initial-limit", Integer.class, 20),
+                property(client, method, "min-limit", Integer.class, 2),
+                property(client, method, "max-limit", Integer.class, 200),
+                property(client, method, "backoff-ratio", Double.class, 0.9),
+                property(client, method, "latency-threshold.ms", Long.class, 1000L),
+                rejected::increment);
+
+        Gauge.builder(LIMIT_GAUGE, limiter, AdaptiveConcurrencyLimiter::limit)
+                .tags("client", client, "method", method)
+                .register(registry);
+        Gauge.builder(IN_FLIGHT_GAUGE, limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .tags("client", client, "method", method)
+                .register(registry);
+        Gauge.builder(WAITING_GAUGE, limiter, AdaptiveConcurrencyLimiter::waiting)
+                .tags("client", client, "method", method)
+                .register(registry);
+
+        log.info("LIMITER | Limitador adaptativo para {}/{} iniciado con límite {}.", client, method, limiter.limit());
+        return limiter;
+    }
+
+    private <T> T property(String client, String method, String name, Class<T> type, T defaultValue) {
+        return config.getOptionalValue(PREFIX + client + "." + method + "." + name, type)
+                .or(() -> config.getOptionalValue(PREFIX + client + "." + name, type))
+                .or(() -> config.getOptionalValue(PREFIX + name, type))
+                .orElse(defaultValue);
+    }
+}
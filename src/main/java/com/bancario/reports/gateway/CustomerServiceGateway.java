@@ -0,0 +1,72 @@
+package com.bancario.reports.gateway;
+
+import com.bancario.reports.client.CustomerServiceRestClient;
+import com.bancario.reports.dto.CustomerResponse;
+import com.bancario.reports.metrics.ReportsMetrics;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.util.function.Supplier;
+
+/**
+ * Punto de acceso único al customer-service.
+ * Las llamadas concurrentes idénticas se agrupan para que compartan una sola petición en curso,
+ * las peticiones reales pasan por el limitador de concurrencia adaptativo del método ({@link ConcurrencyLimiters})
+ * y los perfiles obtenidos se guardan en la caché acotada {@value #CUSTOMER_PROFILES_CACHE}
+ * (Caffeine, W-TinyLFU, tamaño y TTL configurables en application.properties).
+ */
+@Slf4j
+@ApplicationScoped
+public class CustomerServiceGateway {
+
+    public static final String CUSTOMER_PROFILES_CACHE = "customer-profiles";
+
+    static final String CLIENT = "customer-service";
+
+    @Inject
+    @RestClient
+    CustomerServiceRestClient customerServiceRestClient;
+
+    @Inject
+    ReportsMetrics metrics;
+
+    @Inject
+    ConcurrencyLimiters limiters;
+
+    @Inject
+    @CacheName(CUSTOMER_PROFILES_CACHE)
+    Cache customerProfilesCache;
+
+    @ConfigProperty(name = "reports-service.coalescing.enabled", defaultValue = "true")
+    boolean coalescingEnabled;
+
+    private final RequestCoalescer<String, CustomerResponse> customersById = new RequestCoalescer<>();
+
+    /**
+     * Obtiene el perfil del cliente. Los fallos no se almacenan en caché.
+     */
+    @CacheResult(cacheName = CUSTOMER_PROFILES_CACHE)
+    public Uni<CustomerResponse> getCustomerById(String customerId) {
+        Supplier<Uni<CustomerResponse>> call = () -> limiters.execute(CLIENT, "getCustomerById", () -> metrics.timeUpstream(CLIENT, "getCustomerById",
+                () -> customerServiceRestClient.getCustomerById(customerId)));
+        return coalescingEnabled ? customersById.execute(customerId, call) : call.get();
+    }
+
+    /**
+     * Elimina de la caché el perfil de un cliente para forzar su recarga en la siguiente consulta.
+     *
+     * @param customerId El ID del cliente a invalidar.
+     * @return Uni que completa cuando la entrada ha sido eliminada.
+     */
+    public Uni<Void> invalidateCustomer(String customerId) {
+        log.info("CACHE | Invalidando perfil de cliente {} en {}", customerId, CUSTOMER_PROFILES_CACHE);
+        return customerProfilesCache.invalidate(customerId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.bancario.reports.gateway;
+
+import io.smallrye.mutiny.Uni;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa (single-flight) las llamadas concurrentes idénticas hacia un servicio externo.
+ * <p>
+ * Mientras exista una llamada en curso para una clave, los nuevos suscriptores comparten
+ * el mismo {@link Uni} memoizado y reciben su resultado (o su fallo). Al terminar la llamada
+ * la clave se libera, por lo que este componente NO es una caché: sólo elimina el fan-out duplicado.
+ *
+ * @param <K> Tipo de la clave que identifica llamadas equivalentes.
+ * @param <V> Tipo del resultado emitido por la llamada.
+ */
+public class RequestCoalescer<K, V> {
+
+    private final ConcurrentMap<K, Uni<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Ejecuta la llamada o se une a la que ya está en curso para la misma clave.
+     *
+     * @param key  Clave de la llamada (debe implementar equals/hashCode).
+     * @param call Proveedor de la llamada real; sólo se invoca si no hay otra en curso.
+     * @return Uni compartido por todos los suscriptores concurrentes de la clave.
+     */
+    public Uni<V> execute(K key, Supplier<Uni<V>> call) {
+        return Uni.createFrom().deferred(() -> inFlight.computeIfAbsent(key, k -> share(k, call)));
+    }
+
+    /**
+     * Número de claves con una llamada en curso (útil para diagnóstico).
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Uni<V> share(K key, Supplier<Uni<V>> call) {
+        AtomicReference<Uni<V>> self = new AtomicReference<>();
+        Uni<V> shared = call.get()
+                // Se libera la clave sólo si sigue apuntando a esta llamada (no a una posterior).
+                .onTermination().invoke(() -> inFlight.remove(key, self.get()))
+                .memoize().indefinitely();
+        self.set(shared);
+        return shared;
+    }
+}
@@ -0,0 +1,129 @@
+package com.bancario.reports.gateway;
+
+import io.smallrye.mutiny.Uni;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Hedging de una llamada idempotente a un servicio externo.
+ * <p>
+ * Si la llamada no responde dentro del retardo de hedging (el percentil configurado de las latencias
+ * recientes, nunca menor que minDelay), se envía una segunda llamada idéntica: gana la primera respuesta
+ * y la otra se cancela. Los fallos de la llamada de hedging se descartan; los de la original se propagan.
+ * <p>
+ * El percentil se calcula sólo con la latencia de las llamadas originales: si gana el hedge, la original se
+ * registra con el tiempo transcurrido hasta su cancelación (una cota inferior de su latencia real). Registrar
+ * las latencias del hedge, o no registrar las originales lentas, haría que el percentil bajara con el tiempo.
+ * <p>
+ * Presupuesto: cada llamada original deposita budgetRatio créditos (hasta maxBurst) y cada hedge consume
+ * uno, de modo que los hedges nunca superan budgetRatio del tráfico (salvo una ráfaga de maxBurst).
+ */
+public class RequestHedger {
+
+    public static final String SENT = "sent";
+    public static final String WON = "won";
+    public static final String BUDGET_EXHAUSTED = "budget-exhausted";
+
+    private static final int WINDOW = 512;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final double budgetRatio;
+    private final double maxBurst;
+    private final Consumer<String> onEvent;
+
+    // Ventana circular de latencias recientes (nanosegundos) de las llamadas originales.
+    private final long[] samples = new long[WINDOW];
+    private int sampleCount;
+    private int nextSample;
+    private int sinceRecompute;
+    private volatile long delayNanos;
+
+    private double credits;
+
+    public RequestHedger(
+            double percentile,
+            long initialDelayMs,
+            long minDelayMs,
+            double budgetRatio,
+            double maxBurst,
+            Consumer<String> onEvent
+    ) {
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.budgetRatio = budgetRatio;
+        this.maxBurst = maxBurst;
+        this.onEvent = onEvent;
+        this.delayNanos = Math.max(minDelayNanos, TimeUnit.MILLISECONDS.toNanos(initialDelayMs));
+    }
+
+    public <T> Uni<T> execute(Supplier<Uni<T>> call) {
+        return Uni.createFrom().deferred(() -> {
+            deposit();
+            Uni<T> primary = timed(call);
+            Uni<T> hedge = Uni.createFrom().voidItem()
+                    .onItem().delayIt().by(Duration.ofNanos(delayNanos))
+                    .onItem().transformToUni(ignored -> {
+                        if (!tryWithdraw()) {
+                            onEvent.accept(BUDGET_EXHAUSTED);
+                            return Uni.createFrom().<T>nothing();
+                        }
+                        onEvent.accept(SENT);
+                        return call.get()
+                                .onItem().invoke(() -> onEvent.accept(WON))
+                                .onFailure().recoverWithUni(Uni.createFrom().nothing());
+                    });
+            // La primera en emitir gana; la otra (o el temporizador del hedge) se cancela.
+            return Uni.combine().any().<T>of(primary, hedge);
+        });
+    }
+
+    /**
+     * Retardo actual antes de enviar un hedge.
+     */
+    public Duration delay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    /**
+     * Llamada original: registra su latencia al responder o, si la cancela el hedge ganador, al cancelarse.
+     */
+    private <T> Uni<T> timed(Supplier<Uni<T>> call) {
+        return Uni.createFrom().deferred(() -> {
+            long start = System.nanoTime();
+            return call.get()
+                    .onItem().invoke(() -> record(System.nanoTime() - start))
+                    .onCancellation().invoke(() -> record(System.nanoTime() - start));
+        });
+    }
+
+    private synchronized void deposit() {
+        credits = Math.min(maxBurst, credits + budgetRatio);
+    }
+
+    private synchronized boolean tryWithdraw() {
+        if (credits < 1.0) {
+            return false;
+        }
+        credits -= 1.0;
+        return true;
+    }
+
+    private synchronized void record(long latencyNanos) {
+        samples[nextSample] = latencyNanos;
+        nextSample = (nextSample + 1) % WINDOW;
+        sampleCount = Math.min(sampleCount + 1, WINDOW);
+        if (++sinceRecompute >= RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int index = Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1);
+            delayNanos = Math.max(minDelayNanos, sorted[index]);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.bancario.reports.gateway;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Un {@link RequestHedger} por cliente y método, para las consultas rápidas idempotentes
+ * (getAccountsByCustomer y getTransactionsByAccountId). Desactivado por defecto.
+ * <p>
+ * Se publican en /q/metrics {@value #HEDGE_COUNTER} (outcome: sent, won, budget-exhausted)
+ * y {@value #DELAY_GAUGE} (retardo actual en ms), por client y method.
+ */
+@Slf4j
+@ApplicationScoped
+public class RequestHedgers {
+
+    public static final String HEDGE_COUNTER = "reports.hedge.requests";
+    public static final String DELAY_GAUGE = "reports.hedge.delay";
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "reports-service.hedging.enabled", defaultValue = "false")
+    boolean enabled;
+
+    // Percentil de latencia tras el cual se envía el hedge (0.95 = p95).
+    @ConfigProperty(name = "reports-service.hedging.percentile", defaultValue = "0.95")
+    double percentile;
+
+    // Retardo usado hasta acumular suficientes muestras de latencia.
+    @ConfigProperty(name = "reports-service.hedging.initial-delay.ms", defaultValue = "500")
+    long initialDelayMs;
+
+    @ConfigProperty(name = "reports-service.hedging.min-delay.ms", defaultValue = "50")
+    long minDelayMs;
+
+    // Porcentaje máximo del tráfico que puede convertirse en hedges y ráfaga tolerada.
+    @ConfigProperty(name = "reports-service.hedging.budget-percent", defaultValue = "5")
+    double budgetPercent;
+
+    @ConfigProperty(name = "reports-service.hedging.max-burst", defaultValue = "10")
+    double maxBurst;
+
+    private final Map<String, RequestHedger> hedgers = new ConcurrentHashMap<>();
+
+    public <T> Uni<T> execute(String client, String method, Supplier<Uni<T>> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        return hedgers.computeIfAbsent(client + "/" + method, key -> create(client, method)).execute(call);
+    }
+
+    private RequestHedger create(String client, String method) {
+        RequestHedger hedger = new RequestHedger(percentile, initialDelayMs, minDelayMs, budgetPercent / 100.0, maxBurst,
+                outcome -> registry.counter(HEDGE_COUNTER, "client", client, "method", method, "outcome", outcome).increment());
+
+        Gauge.builder(DELAY_GAUGE, hedger, h -> h.delay().toMillis())
+                .tags("client", client, "method", method)
+                .baseUnit("milliseconds")
+                .register(registry);
+
+        log.info("HEDGING | Hedging activo para {}/{} (p{}, presupuesto {}%).",
+                client, method, Math.round(percentile * 100), budgetPercent);
+        return hedger;
+    }
+}
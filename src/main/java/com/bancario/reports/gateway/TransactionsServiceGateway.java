@@ -0,0 +1,106 @@
+package com.bancario.reports.gateway;
+
+import com.bancario.reports.client.TransactionsServiceRestClient;
+import com.bancario.reports.dto.CommissionReportDto;
+import com.bancario.reports.dto.TransactionResponse;
+import com.bancario.reports.metrics.ReportsMetrics;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Punto de acceso único al transactions-service.
+ * Las llamadas concurrentes idénticas se agrupan para que compartan una sola petición en curso,
+ * los fallos transitorios de las consultas no streaming se reintentan ({@link UpstreamRetry}) y cada intento pasa
+ * por el limitador de concurrencia adaptativo de su método ({@link ConcurrencyLimiters}).
+ */
+@ApplicationScoped
+public class TransactionsServiceGateway {
+
+    static final String CLIENT = "transactionsService";
+
+    @Inject
+    @RestClient
+    TransactionsServiceRestClient transactionsServiceRestClient;
+
+    @Inject
+    ReportsMetrics metrics;
+
+    @Inject
+    ConcurrencyLimiters limiters;
+
+    @Inject
+    UpstreamRetry retry;
+
+    // Hedging opcional de la consulta rápida (cada hedge ocupa su propio permiso del limitador).
+    @Inject
+    RequestHedgers hedgers;
+
+    @ConfigProperty(name = "reports-service.coalescing.enabled", defaultValue = "true")
+    boolean coalescingEnabled;
+
+    private final RequestCoalescer<TransactionsKey, List<TransactionResponse>> transactionsByAccount = new RequestCoalescer<>();
+    private final RequestCoalescer<DateRangeKey, List<CommissionReportDto>> commissionsByRange = new RequestCoalescer<>();
+
+    public Uni<List<TransactionResponse>> getTransactionsByAccountId(String accountId) {
+        return getTransactionsByAccountId(accountId, null, null, null);
+    }
+
+    /**
+     * Movimientos de una cuenta con filtros opcionales de fecha y tamaño (null = sin filtro).
+     */
+    public Uni<List<TransactionResponse>> getTransactionsByAccountId(
+            String accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Integer limit
+    ) {
+        return coalesce(transactionsByAccount, new TransactionsKey(accountId, startDate, endDate, limit),
+                () -> hedgers.execute(CLIENT, "getTransactionsByAccountId",
+                        () -> call("getTransactionsByAccountId",
+                                () -> transactionsServiceRestClient.getTransactionsByAccountId(accountId, startDate, endDate, limit))));
+    }
+
+    /**
+     * Los streams no se agrupan ni se reintentan: cada suscriptor consume su propia respuesta con su propio ritmo
+     * y reintentar un stream parcialmente consumido duplicaría elementos.
+     */
+    public Multi<TransactionResponse> streamTransactionsByAccountId(String accountId) {
+        return limiters.executeStream(CLIENT, "streamTransactionsByAccountId", () -> metrics.timeUpstreamStream(CLIENT, "streamTransactionsByAccountId",
+                () -> transactionsServiceRestClient.streamTransactionsByAccountId(accountId)));
+    }
+
+    public Uni<List<CommissionReportDto>> getCommissionsReportData(LocalDate startDate, LocalDate endDate) {
+        return coalesce(commissionsByRange, new DateRangeKey(startDate, endDate),
+                () -> call("getCommissionsReportData",
+                        () -> transactionsServiceRestClient.getCommissionsReportData(startDate, endDate)));
+    }
+
+    public Multi<CommissionReportDto> streamCommissionsReportData(LocalDate startDate, LocalDate endDate) {
+        return limiters.executeStream(CLIENT, "streamCommissionsReportData", () -> metrics.timeUpstreamStream(CLIENT, "streamCommissionsReportData",
+                () -> transactionsServiceRestClient.streamCommissionsReportData(startDate, endDate)));
+    }
+
+    /**
+     * Llamada real con reintentos; cada intento ocupa un permiso del limitador del método y se mide por separado.
+     */
+    private <T> Uni<T> call(String method, Supplier<Uni<T>> request) {
+        return retry.execute(CLIENT, method,
+                () -> limiters.execute(CLIENT, method, () -> metrics.timeUpstream(CLIENT, method, request)));
+    }
+
+    private <K, V> Uni<V> coalesce(RequestCoalescer<K, V> coalescer, K key, Supplier<Uni<V>> call) {
+        return coalescingEnabled ? coalescer.execute(key, call) : call.get();
+    }
+
+    private record DateRangeKey(LocalDate startDate, LocalDate endDate) {}
+
+    private record TransactionsKey(String accountId, LocalDate startDate, LocalDate endDate, Integer limit) {}
+}
@@ -0,0 +1,81 @@
+package com.bancario.reports.gateway;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Reintentos de las llamadas idempotentes a los servicios externos (antes @Retry en los clientes REST).
+ * <p>
+ * Se aplican en los gateways por fuera del limitador de concurrencia: cada intento reserva su propio permiso
+ * y aporta su propia muestra de latencia, y el permiso no se retiene durante la espera entre intentos.
+ * Configuración: reports-service.retry.max-retries, reports-service.retry.delay.ms y
+ * reports-service.retry.retry-on-exceptions (sólo se reintentan esas excepciones y sus subclases).
+ * Cada reintento se cuenta en {@value #RETRY_COUNTER}, por client y method.
+ */
+@ApplicationScoped
+public class UpstreamRetry {
+
+    public static final String RETRY_COUNTER = "reports.upstream.retries";
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "reports-service.retry.max-retries", defaultValue = "3")
+    int maxRetries;
+
+    @ConfigProperty(name = "reports-service.retry.delay.ms", defaultValue = "300")
+    long delayMs;
+
+    @ConfigProperty(name = "reports-service.retry.retry-on-exceptions", defaultValue = "java.io.IOException")
+    List<String> retryOnExceptions;
+
+    private List<Class<?>> retryOn;
+
+    @PostConstruct
+    void init() {
+        retryOn = retryOnExceptions.stream().map(UpstreamRetry::exceptionClass).toList();
+    }
+
+    /**
+     * Ejecuta la llamada y la repite (volviendo a invocar el proveedor) ante los fallos configurados.
+     */
+    public <T> Uni<T> execute(String client, String method, Supplier<Uni<T>> attempt) {
+        if (maxRetries <= 0) {
+            return Uni.createFrom().deferred(attempt);
+        }
+        Duration delay = Duration.ofMillis(Math.max(1, delayMs));
+        return Uni.createFrom().deferred(() -> {
+            AtomicInteger attempts = new AtomicInteger();
+            return Uni.createFrom().deferred(() -> {
+                        if (attempts.getAndIncrement() > 0) {
+                            registry.counter(RETRY_COUNTER, "client", client, "method", method).increment();
+                        }
+                        return attempt.get();
+                    })
+                    .onFailure(this::isRetryable).retry()
+                    .withBackOff(delay, delay).withJitter(0)
+                    .atMost(maxRetries);
+        });
+    }
+
+    private boolean isRetryable(Throwable failure) {
+        return retryOn.stream().anyMatch(type -> type.isInstance(failure));
+    }
+
+    private static Class<?> exceptionClass(String name) {
+        try {
+            return Class.forName(name.trim(), false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Excepción desconocida en reports-service.retry.retry-on-exceptions: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bancario.reports.http;
+
+import io.quarkus.vertx.http.HttpServerOptionsCustomizer;
+import io.vertx.core.http.HttpServerOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Umbral de compresión de las respuestas HTTP (quarkus.http.enable-compression).
+ * Las respuestas menores que reports-service.http.compression.min-size bytes se envían sin comprimir:
+ * en payloads pequeños gzip cuesta más CPU de lo que ahorra en ancho de banda.
+ */
+@Slf4j
+@ApplicationScoped
+public class CompressionOptionsCustomizer implements HttpServerOptionsCustomizer {
+
+    @ConfigProperty(name = "reports-service.http.compression.min-size", defaultValue = "1024")
+    int minSize;
+
+    @Override
+    public void customizeHttpServer(HttpServerOptions options) {
+        apply(options);
+    }
+
+    @Override
+    public void customizeHttpsServer(HttpServerOptions options) {
+        apply(options);
+    }
+
+    private void apply(HttpServerOptions options) {
+        options.setCompressionContentSizeThreshold(minSize);
+        log.info("HTTP | Compresión de respuestas a partir de {} bytes (habilitada: {}).", minSize, options.isCompressionSupported());
+    }
+}
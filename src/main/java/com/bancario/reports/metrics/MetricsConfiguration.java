@@ -0,0 +1,31 @@
+package com.bancario.reports.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+public class MetricsConfiguration {
+
+    /**
+     * Publica histogramas de percentiles para los timers propios y para http.server.requests,
+     * de modo que los timeouts (p. ej. reports-service.quick-query.ms) se dimensionen con p95/p99 reales.
+     */
+    @Produces
+    @Singleton
+    public MeterFilter enablePercentileHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().startsWith("reports.") || id.getName().equals("http.server.requests")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.bancario.reports.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Instrumentación Micrometer de la orquestación de reportes (publicada en /q/metrics).
+ * <ul>
+ * <li>{@value #UPSTREAM_TIMER}: cada llamada real a un servicio externo, por client, method y outcome.</li>
+ * <li>{@value #REPORT_TIMER}: cada método de reporte de ReportsServiceImpl (sin el interceptor de Fault Tolerance), por report y outcome.</li>
+ * <li>{@value #STAGE_TIMER}: etapas internas de cálculo/combinación, por report, stage y thread
+ * (event-loop, worker o virtual): con thread=event-loop mide el tiempo que el cálculo bloquea los hilos de E/S de Vert.x.</li>
+ * <li>{@value #FALLBACK_COUNTER}: activaciones de fallback, por report y cause.</li>
+ * <li>{@value #RESPONSE_CACHE_COUNTER}: consultas a las cachés de respuestas, por report y outcome
+ * (projection, snapshot, fresh, stale, stale-on-error, miss).</li>
+ * <li>{@value #SNAPSHOT_AGE_TIMER}: antigüedad de los snapshots pre-calculados servidos, por report.</li>
+ * </ul>
+ * Los limitadores de concurrencia por cliente y método publican reports.limiter.* (ver ConcurrencyLimiters) y los
+ * reintentos hacia los servicios externos reports.upstream.retries (ver UpstreamRetry).
+ * Las transiciones del Circuit Breaker y los timeouts los publica SmallRye Fault Tolerance
+ * (ft.circuitbreaker.*, ft.timeout.*, ft.invocations.total).
+ * Los histogramas de percentiles se habilitan en {@link MetricsConfiguration}.
+ */
+@ApplicationScoped
+public class ReportsMetrics {
+
+    public static final String UPSTREAM_TIMER = "reports.upstream.requests";
+    public static final String REPORT_TIMER = "reports.orchestration";
+    public static final String STAGE_TIMER = "reports.stage";
+    public static final String FALLBACK_COUNTER = "reports.fallbacks";
+    public static final String RESPONSE_CACHE_COUNTER = "reports.response.cache";
+    public static final String SNAPSHOT_AGE_TIMER = "reports.snapshot.age";
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String CANCELLED = "cancelled";
+
+    private static final String EVENT_LOOP_THREAD = "event-loop";
+    private static final String VIRTUAL_THREAD = "virtual";
+    private static final String WORKER_THREAD = "worker";
+
+    @Inject
+    MeterRegistry registry;
+
+    /**
+     * Mide una llamada a un servicio externo (la medición comienza en la suscripción).
+     */
+    public <T> Uni<T> timeUpstream(String client, String method, Supplier<Uni<T>> call) {
+        return time(UPSTREAM_TIMER, Tags.of("client", client, "method", method), call);
+    }
+
+    /**
+     * Mide una llamada en streaming a un servicio externo hasta que el stream termina.
+     */
+    public <T> Multi<T> timeUpstreamStream(String client, String method, Supplier<Multi<T>> call) {
+        Tags tags = Tags.of("client", client, "method", method);
+        return Multi.createFrom().deferred(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.get()
+                    .onCompletion().invoke(() -> stop(sample, UPSTREAM_TIMER, tags, SUCCESS))
+                    .onFailure().invoke(failure -> stop(sample, UPSTREAM_TIMER, tags, FAILURE))
+                    .onCancellation().invoke(() -> stop(sample, UPSTREAM_TIMER, tags, CANCELLED));
+        });
+    }
+
+    /**
+     * Mide un método de reporte completo.
+     */
+    public <T> Uni<T> timeReport(String report, Supplier<Uni<T>> execution) {
+        return time(REPORT_TIMER, Tags.of("report", report), execution);
+    }
+
+    /**
+     * Mide una etapa síncrona (p. ej. la combinación de resultados o una agregación),
+     * etiquetada con el tipo de hilo que la ejecuta.
+     */
+    public <T> T timeStage(String report, String stage, Supplier<T> work) {
+        return Timer.builder(STAGE_TIMER)
+                .tags("report", report, "stage", stage, "thread", currentThreadType())
+                .register(registry)
+                .record(work);
+    }
+
+    /**
+     * Registra la activación de un fallback y la causa que lo provocó.
+     */
+    public void fallback(String report, Throwable cause) {
+        registry.counter(FALLBACK_COUNTER,
+                "report", report,
+                "cause", cause == null ? "unknown" : cause.getClass().getSimpleName()
+        ).increment();
+    }
+
+    /**
+     * Registra el resultado de una consulta a una caché de respuestas.
+     */
+    public void responseCache(String report, String outcome) {
+        registry.counter(RESPONSE_CACHE_COUNTER, "report", report, "outcome", outcome).increment();
+    }
+
+    /**
+     * Registra la antigüedad de un snapshot pre-calculado en el momento de servirlo.
+     */
+    public void snapshotAge(String report, Duration age) {
+        registry.timer(SNAPSHOT_AGE_TIMER, "report", report).record(age);
+    }
+
+    private <T> Uni<T> time(String name, Tags tags, Supplier<Uni<T>> call) {
+        return Uni.createFrom().deferred(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.get()
+                    .onItem().invoke(() -> stop(sample, name, tags, SUCCESS))
+                    .onFailure().invoke(failure -> stop(sample, name, tags, FAILURE))
+                    .onCancellation().invoke(() -> stop(sample, name, tags, CANCELLED));
+        });
+    }
+
+    private static String currentThreadType() {
+        if (Context.isOnEventLoopThread()) {
+            return EVENT_LOOP_THREAD;
+        }
+        return Thread.currentThread().isVirtual() ? VIRTUAL_THREAD : WORKER_THREAD;
+    }
+
+    private void stop(Timer.Sample sample, String name, Tags tags, String outcome) {
+        sample.stop(Timer.builder(name).tags(tags).tag("outcome", outcome).register(registry));
+    }
+}
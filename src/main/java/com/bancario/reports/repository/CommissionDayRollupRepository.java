@@ -0,0 +1,48 @@
+package com.bancario.reports.repository;
+
+import com.bancario.reports.entity.CommissionDayRollup;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import io.quarkus.mongodb.panache.reactive.ReactivePanacheMongoRepositoryBase;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@ApplicationScoped
+public class CommissionDayRollupRepository implements ReactivePanacheMongoRepositoryBase<CommissionDayRollup, String> {
+
+    /**
+     * Crea (si no existen) el índice por fecha que soporta los escaneos por rango y el índice TTL sobre
+     * expiresAt que elimina los rollups de días sin comisiones para volver a consultarlos.
+     */
+    void onStart(@Observes StartupEvent event) {
+        createIndex(Indexes.ascending("date"), new IndexOptions());
+        createIndex(Indexes.ascending("expiresAt"), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
+    }
+
+    private void createIndex(Bson keys, IndexOptions options) {
+        mongoCollection()
+                .createIndex(keys, options)
+                .subscribe().with(
+                        index -> log.info("STORE | Índice {} disponible en commission_day_rollups", index),
+                        failure -> log.warn("STORE | No se pudo crear el índice de commission_day_rollups: {}", failure.getMessage())
+                );
+    }
+
+    /**
+     * Obtiene los rollups diarios persistidos en el rango [startDate, endDate].
+     */
+    public Uni<List<CommissionDayRollup>> findByRange(LocalDate startDate, LocalDate endDate) {
+        Document query = new Document("date", new Document("$gte", startDate).append("$lte", endDate));
+        return find(query).list();
+    }
+}
@@ -0,0 +1,50 @@
+package com.bancario.reports.repository;
+
+import com.bancario.reports.entity.DailyBalanceSnapshot;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import io.quarkus.mongodb.panache.reactive.ReactivePanacheMongoRepositoryBase;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@ApplicationScoped
+public class DailyBalanceSnapshotRepository implements ReactivePanacheMongoRepositoryBase<DailyBalanceSnapshot, String> {
+
+    /**
+     * Crea (si no existen) el índice (customerId, date) que soporta los escaneos por rango y el índice TTL
+     * sobre expiresAt que elimina los snapshots vacíos para volver a consultarlos.
+     * Un fallo aquí no impide el arranque: el store degrada a consultar el account-service.
+     */
+    void onStart(@Observes StartupEvent event) {
+        createIndex(Indexes.ascending("customerId", "date"), new IndexOptions().unique(true));
+        createIndex(Indexes.ascending("expiresAt"), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
+    }
+
+    private void createIndex(Bson keys, IndexOptions options) {
+        mongoCollection()
+                .createIndex(keys, options)
+                .subscribe().with(
+                        index -> log.info("STORE | Índice {} disponible en daily_balance_snapshots", index),
+                        failure -> log.warn("STORE | No se pudo crear el índice de daily_balance_snapshots: {}", failure.getMessage())
+                );
+    }
+
+    /**
+     * Obtiene los snapshots materializados de un cliente en el rango [startDate, endDate], ordenados por fecha.
+     */
+    public Uni<List<DailyBalanceSnapshot>> findByCustomerAndRange(String customerId, LocalDate startDate, LocalDate endDate) {
+        Document query = new Document("customerId", customerId)
+                .append("date", new Document("$gte", startDate).append("$lte", endDate));
+        return find(query, new Document("date", 1)).list();
+    }
+}
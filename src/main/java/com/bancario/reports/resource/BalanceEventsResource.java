@@ -0,0 +1,118 @@
+package com.bancario.reports.resource;
+
+import com.bancario.reports.cache.BalanceProjection;
+import com.bancario.reports.dto.AccountBalanceEvent;
+import com.bancario.reports.dto.BalanceEventsResult;
+import com.bancario.reports.enums.ProjectionEventOutcome;
+import com.bancario.reports.exception.UnauthorizedException;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Path("/reports/events")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Reports Events", description = "Ingesta de eventos de cambio de saldo para la proyección de /reports/balances.")
+public class BalanceEventsResource {
+
+    public static final String EVENTS_TOKEN_HEADER = "X-Events-Token";
+
+    @Inject
+    BalanceProjection balanceProjection;
+
+    // Secreto compartido con el publicador de eventos. Sin configurar, el endpoint rechaza todas las peticiones.
+    @ConfigProperty(name = "reports-service.balances.projection.events.token")
+    Optional<String> eventsToken;
+
+    /**
+     * Aplica un lote de eventos de cambio de saldo a la proyección en memoria (en el orden recibido).
+     * Los eventos de clientes que aún no están en la proyección se descartan: se cargarán del
+     * Account Service la primera vez que se consulten.
+     * Requiere el secreto compartido reports-service.balances.projection.events.token en {@value #EVENTS_TOKEN_HEADER}.
+     *
+     * @param token El secreto compartido con el publicador de eventos.
+     * @param events Los eventos a aplicar.
+     * @return Uni que emite el número de eventos aplicados y descartados.
+     */
+    @POST
+    @Path("/balances")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Ingerir eventos de cambio de saldo",
+            description = "Actualiza la proyección de saldos por cliente con control de versión por cuenta.")
+    @APIResponse(responseCode = "200", description = "Eventos procesados.",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                    schema = @Schema(implementation = BalanceEventsResult.class)))
+    @APIResponse(responseCode = "400", description = "Lote vacío o evento sin cliente, cuenta, saldo, versión u occurredAt.")
+    @APIResponse(responseCode = "401", description = "Falta el secreto compartido o no coincide (o no está configurado).")
+    public Uni<BalanceEventsResult> ingestBalanceEvents(
+            @Parameter(description = "Secreto compartido con el publicador de eventos.", required = true)
+            @HeaderParam(EVENTS_TOKEN_HEADER) String token,
+            List<AccountBalanceEvent> events) {
+        return Uni.createFrom().item(() -> {
+            authorize(token);
+            validate(events);
+            Map<ProjectionEventOutcome, Integer> counts = new EnumMap<>(ProjectionEventOutcome.class);
+            for (AccountBalanceEvent event : events) {
+                counts.merge(balanceProjection.apply(event), 1, Integer::sum);
+            }
+            BalanceEventsResult result = new BalanceEventsResult(
+                    counts.getOrDefault(ProjectionEventOutcome.APPLIED, 0),
+                    counts.getOrDefault(ProjectionEventOutcome.STALE, 0),
+                    counts.getOrDefault(ProjectionEventOutcome.COLD, 0));
+            log.debug("EVENTS Resource: {} eventos de saldo procesados: {}", events.size(), result);
+            return result;
+        });
+    }
+
+    /**
+     * Compara el secreto en tiempo constante. Sin secreto configurado no se acepta ninguna petición,
+     * de modo que activar la proyección nunca abre una vía de escritura sin autenticar.
+     */
+    private void authorize(String token) {
+        boolean valid = token != null && eventsToken.filter(expected -> !expected.isBlank())
+                .map(expected -> MessageDigest.isEqual(
+                        expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8)))
+                .orElse(false);
+        if (!valid) {
+            log.warn("EVENTS Resource: lote de eventos rechazado: secreto ausente, incorrecto o sin configurar.");
+            throw new UnauthorizedException("Se requiere un " + EVENTS_TOKEN_HEADER + " válido.");
+        }
+    }
+
+    private void validate(List<AccountBalanceEvent> events) {
+        if (events == null || events.isEmpty()) {
+            throw new IllegalArgumentException("Debe enviarse al menos un evento.");
+        }
+        for (AccountBalanceEvent event : events) {
+            if (event == null
+                    || event.customerId() == null || event.customerId().isBlank()
+                    || event.accountId() == null || event.accountId().isBlank()
+                    || event.availableBalance() == null
+                    || event.version() == null || event.version() < 1
+                    || event.occurredAt() == null) {
+                throw new IllegalArgumentException(
+                        "Cada evento requiere customerId, accountId, availableBalance, version (>= 1) y occurredAt.");
+            }
+        }
+    }
+}
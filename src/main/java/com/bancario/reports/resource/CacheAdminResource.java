@@ -0,0 +1,65 @@
+package com.bancario.reports.resource;
+
+import com.bancario.reports.cache.BalanceProjection;
+import com.bancario.reports.gateway.CustomerServiceGateway;
+import com.bancario.reports.service.impl.ReportsServiceImpl;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+@Slf4j
+@Path("/reports/cache")
+@Tag(name = "Reports Cache", description = "Operaciones de administración de las cachés del servicio de reportes.")
+public class CacheAdminResource {
+
+    @Inject
+    CustomerServiceGateway customerServiceGateway;
+
+    @Inject
+    @CacheName(ReportsServiceImpl.BALANCES_CACHE)
+    Cache balancesCache;
+
+    @Inject
+    BalanceProjection balanceProjection;
+
+    @DELETE
+    @Path("/customers/{customerId}")
+    @Operation(summary = "Invalidar perfil de cliente en caché",
+            description = "Elimina el perfil cacheado de un cliente para que la próxima consulta lo recargue desde el Customer Service.")
+    @APIResponse(responseCode = "204", description = "Entrada invalidada (o inexistente).")
+    @APIResponse(responseCode = "400", description = "ID de cliente inválido.")
+    public Uni<Response> invalidateCustomer(@PathParam("customerId") String customerId) {
+        if (customerId == null || customerId.isBlank()) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("El ID del cliente no puede ser vacío.").build());
+        }
+        return customerServiceGateway.invalidateCustomer(customerId)
+                .onItem().transform(ignored -> Response.noContent().build());
+    }
+
+    @DELETE
+    @Path("/balances/{customerId}")
+    @Operation(summary = "Invalidar saldos en caché",
+            description = "Elimina la respuesta de saldos cacheada de un cliente (y de la proyección de eventos) para que la próxima consulta vaya al Account Service.")
+    @APIResponse(responseCode = "204", description = "Entrada invalidada (o inexistente).")
+    @APIResponse(responseCode = "400", description = "ID de cliente inválido.")
+    public Uni<Response> invalidateBalances(@PathParam("customerId") String customerId) {
+        if (customerId == null || customerId.isBlank()) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("El ID del cliente no puede ser vacío.").build());
+        }
+        log.info("CACHE | Invalidando saldos de cliente {} en {}", customerId, ReportsServiceImpl.BALANCES_CACHE);
+        balanceProjection.evict(customerId);
+        return balancesCache.invalidate(customerId)
+                .onItem().transform(ignored -> Response.noContent().build());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.bancario.reports.resource;
+
+import com.bancario.reports.serialization.FieldSelection;
+import com.bancario.reports.serialization.PreSerializedEntity;
+import com.bancario.reports.serialization.WireFormats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional (ETag / If-None-Match) para los endpoints de ReportsResource.
+ * <p>
+ * El ETag es la huella de los bytes de la entidad ({@link WireFormats#entityTag}). Las entidades servidas desde
+ * una caché de respuestas son la misma instancia en cada acierto, así que sus bytes y su ETag se guardan por
+ * instancia ({@link PreSerializedEntity}, claves por identidad): las precondiciones se evalúan antes de tocar
+ * el cuerpo y un 304 de una entidad ya vista no serializa ni calcula ninguna huella. Los reportes con un campo
+ * que cambia en cada llamada (p. ej. processingTimestamp) se calculan en cada petición y usan un ETag débil
+ * sobre sus bytes sin ese valor. Con {@code fields=} la respuesta se serializa proyectada, por lo que su ETag
+ * es distinto del completo.
+ * <p>
+ * Con la compresión activa (quarkus.http.enable-compression) la capa HTTP de Vert.x decide después, por
+ * Accept-Encoding y tamaño, si el cuerpo sale comprimido, así que el mismo ETag puede acompañar a bytes gzip,
+ * deflate o sin comprimir. Por eso en ese caso todos los ETag se envían débiles ({@code W/"…"}): las variantes
+ * codificadas son semánticamente equivalentes y If-None-Match usa la comparación débil. Las respuestas llevan
+ * {@code Vary: Accept, Accept-Encoding} para que una caché compartida guarde cada codificación por separado.
+ */
+@ApplicationScoped
+public class ConditionalResponses {
+
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    @Inject
+    WireFormats wireFormats;
+
+    @ConfigProperty(name = "quarkus.http.enable-compression", defaultValue = "false")
+    boolean compressionEnabled;
+
+    @ConfigProperty(name = "reports-service.http.etag-cache.max-size", defaultValue = "5000")
+    long etagCacheMaxSize;
+
+    // Cada entrada retiene su entidad (para Smile y las proyecciones): la acotan el tamaño y el tiempo sin acceso.
+    @ConfigProperty(name = "reports-service.http.etag-cache.expire-after-access", defaultValue = "5M")
+    Duration etagCacheExpireAfterAccess;
+
+    // Claves débiles: Caffeine las compara por identidad, no con equals (que recorrería listas enteras).
+    private Cache<Object, PreSerializedEntity> serialized;
+
+    @PostConstruct
+    void init() {
+        serialized = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(etagCacheMaxSize)
+                .expireAfterAccess(etagCacheExpireAfterAccess)
+                .build();
+    }
+
+    /**
+     * 200 con ETag fuerte (débil con la compresión activa), o 304 si el cliente ya tiene esta representación.
+     */
+    public Response.ResponseBuilder ok(Request request, Object entity) {
+        return ok(request, serialized.get(entity, key -> wireFormats.preSerialize(key, null)), FieldSelection.ALL);
+    }
+
+    /**
+     * 200 con ETag débil calculado sobre los bytes de la entidad sin {@code volatileValue}, o 304.
+     * La proyección de campos se aplica al serializar.
+     */
+    public Response.ResponseBuilder ok(Request request, Object entity, String volatileValue, FieldSelection fields) {
+        MediaType mediaType = WireFormats.negotiate(request);
+        byte[] body = wireFormats.serialize(entity, mediaType, fields);
+        return evaluate(request, WireFormats.weakEntityTag(body, volatileValue), () -> body, mediaType);
+    }
+
+    /**
+     * 200 con los bytes ya serializados de la representación negociada, o 304.
+     * Con proyección de campos se serializa la entidad conservada en el snapshot.
+     */
+    public Response.ResponseBuilder ok(Request request, PreSerializedEntity entity, FieldSelection fields) {
+        MediaType mediaType = WireFormats.negotiate(request);
+        if (!fields.isAll()) {
+            byte[] body = wireFormats.serialize(entity.entity(), mediaType, fields);
+            EntityTag tag = entity.volatileValue() == null
+                    ? WireFormats.entityTag(body, false)
+                    : WireFormats.weakEntityTag(body, entity.volatileValue());
+            return evaluate(request, tag, () -> body, mediaType);
+        }
+        return evaluate(request, entity.tag(mediaType), () -> entity.body(mediaType), mediaType);
+    }
+
+    /**
+     * 304 si el ETag coincide con If-None-Match; si no, 200 con el cuerpo, que sólo entonces se obtiene.
+     */
+    private Response.ResponseBuilder evaluate(Request request, EntityTag tag, Supplier<byte[]> body, MediaType mediaType) {
+        EntityTag sentTag = forContentCoding(tag);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(sentTag);
+        if (notModified != null) {
+            return notModified.header(HttpHeaders.VARY, VARY);
+        }
+        return Response.ok(body.get(), mediaType)
+                .tag(sentTag)
+                .header(HttpHeaders.VARY, VARY);
+    }
+
+    /**
+     * ETag débil si la respuesta puede salir comprimida: el ETag no distingue la codificación que elija Vert.x.
+     */
+    private EntityTag forContentCoding(EntityTag tag) {
+        return compressionEnabled && !tag.isWeak() ? new EntityTag(tag.getValue(), true) : tag;
+    }
+}
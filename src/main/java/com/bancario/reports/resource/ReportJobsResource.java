@@ -0,0 +1,80 @@
+package com.bancario.reports.resource;
+
+import com.bancario.reports.dto.ReportJobRequest;
+import com.bancario.reports.dto.ReportJobResponse;
+import com.bancario.reports.service.ReportJobService;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+@Slf4j
+@Path("/reports/jobs")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Report Jobs", description = "Generación asíncrona de reportes pesados con consulta de resultado.")
+public class ReportJobsResource {
+
+    @Inject
+    ReportJobService reportJobService;
+
+    /**
+     * Encola un reporte pesado (COMMISSIONS o DAILY_AVERAGE_BALANCE) y responde de inmediato con el ID del job.
+     * El resultado se consulta después en GET /reports/jobs/{jobId} (cabecera Location).
+     *
+     * @param request El tipo de reporte y sus parámetros.
+     * @return Uni que emite HTTP 202 con el estado inicial del job.
+     */
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Encolar un reporte asíncrono",
+            description = "Ejecuta el reporte en un pool acotado sin los tiempos máximos síncronos; devuelve el ID del job.")
+    @APIResponse(responseCode = "202", description = "Job aceptado.",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                    schema = @Schema(implementation = ReportJobResponse.class)))
+    @APIResponse(responseCode = "400", description = "Tipo de reporte, cliente o fechas inválidas.")
+    @APIResponse(responseCode = "503", description = "La cola de jobs está llena.")
+    public Uni<Response> submitJob(ReportJobRequest request, @Context UriInfo uriInfo) {
+        log.info("JOBS Resource: Solicitud de job recibida: {}", request == null ? null : request.type());
+        return Uni.createFrom().item(() -> {
+            ReportJobResponse job = reportJobService.submit(request);
+            return Response.accepted(job)
+                    .location(uriInfo.getAbsolutePathBuilder().path(job.jobId()).build())
+                    .build();
+        });
+    }
+
+    /**
+     * Consulta el estado, el progreso (0-100) y, si terminó, el resultado o el error de un job.
+     *
+     * @param jobId El ID devuelto al encolar el job.
+     * @return Uni que emite HTTP 200 con el estado del job o 404 si no existe o ya expiró.
+     */
+    @GET
+    @Path("/{jobId}")
+    @Operation(summary = "Consultar un reporte asíncrono",
+            description = "Devuelve el estado y el progreso del job; el resultado se incluye cuando el estado es COMPLETED.")
+    @APIResponse(responseCode = "200", description = "Estado del job.",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                    schema = @Schema(implementation = ReportJobResponse.class)))
+    @APIResponse(responseCode = "404", description = "El job no existe o su resultado ya expiró.")
+    public Uni<Response> getJob(@PathParam("jobId") String jobId) {
+        return Uni.createFrom().item(() -> reportJobService.find(jobId)
+                .map(job -> Response.ok(job).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND)
+                        .entity("No se encontró el job o su resultado ya expiró.").build()));
+    }
+}
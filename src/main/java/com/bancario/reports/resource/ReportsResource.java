@@ -1,16 +1,36 @@
 package com.bancario.reports.resource;
 
+import com.bancario.reports.cache.CachedResponse;
+import com.bancario.reports.cache.Served;
+import com.bancario.reports.dto.BatchBalancesRequest;
+import com.bancario.reports.dto.BatchBalancesResponse;
+import com.bancario.reports.dto.BulkDailyAverageRequest;
+import com.bancario.reports.dto.BulkDailyAverageResult;
 import com.bancario.reports.dto.CommissionReportItem;
 import com.bancario.reports.dto.ConsolidatedSummaryDTO;
 import com.bancario.reports.dto.DailyAverageBalanceReportDto;
+import com.bancario.reports.dto.DailyAverageWindowsRequest;
+import com.bancario.reports.dto.MovementCursor;
+import com.bancario.reports.enums.PartitionGranularity;
+import com.bancario.reports.exception.ServiceUnavailableException;
+import com.bancario.reports.serialization.FieldSelection;
+import com.bancario.reports.serialization.PreSerializedEntity;
+import com.bancario.reports.serialization.SmileMessageBodyHandler;
 import com.bancario.reports.service.ReportsService;
+import com.bancario.reports.service.SummarySnapshotService;
+import com.bancario.reports.dto.TransactionResponse;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -19,18 +39,38 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.resteasy.reactive.RestQuery;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Path("/reports")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, SmileMessageBodyHandler.APPLICATION_SMILE})
 @Tag(name = "Reports", description = "Operaciones para generar reportes.")
 public class ReportsResource {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String AGE_HEADER = "Age";
+    static final String STALE_HEADER = "X-Stale";
+
     @Inject
     ReportsService reportsService;
 
+    @Inject
+    ConditionalResponses conditionalResponses;
+
+    @Inject
+    SummarySnapshotService summarySnapshotService;
+
+    @ConfigProperty(name = "reports-service.movements.default-page-size", defaultValue = "50")
+    int movementsDefaultPageSize;
+
+    @ConfigProperty(name = "reports-service.movements.max-page-size", defaultValue = "500")
+    int movementsMaxPageSize;
+
     @GET
     @Path("/balances")
     @Operation(summary = "Obtener saldos disponibles", description = "Consulta todos los saldos de las cuentas y tarjetas de un cliente.")
@@ -42,13 +82,16 @@ public class ReportsResource {
                             mediaType = MediaType.APPLICATION_JSON
                     )
             ),
+            @APIResponse(responseCode = "304", description = "Los saldos no han cambiado (If-None-Match)."),
             @APIResponse(responseCode = "400", description = "ID de cliente inválido."),
             @APIResponse(responseCode = "404", description = "No se encontraron cuentas para el cliente."),
-            @APIResponse(responseCode = "500", description = "Error interno del servidor.")
+            @APIResponse(responseCode = "500", description = "Error interno del servidor."),
+            @APIResponse(responseCode = "503", description = "El Account Service no está disponible (Circuit Breaker, Timeout o límite de concurrencia).")
     })
     public Uni<Response> getBalancesByCustomer(
             @Parameter(description = "ID del cliente.", required = true, example = "ejemplo123")
-            @QueryParam("customerId") String customerId) {
+            @QueryParam("customerId") String customerId,
+            @Context Request request) {
 
         log.info("Received request to get balances for customer ID: {}", customerId);
 
@@ -58,36 +101,96 @@ public class ReportsResource {
         }
 
         return reportsService.getBalancesByCustomer(customerId)
-                .onItem().transform(balances -> {
-                    if (balances.isEmpty()) {
+                .onItem().transform(served -> {
+                    if (served.value().isEmpty()) {
                         log.warn("No accounts found for customer ID: {}", customerId);
                         return Response.status(Response.Status.NOT_FOUND).entity("No accounts found.").build();
                     }
-                    log.info("Successfully retrieved balances for customer ID: {}", customerId);
-                    return Response.ok(balances).build();
+                    if (served.stale()) {
+                        log.warn("Serving stale balances for customer ID: {}", customerId);
+                    } else {
+                        log.info("Successfully retrieved balances for customer ID: {}", customerId);
+                    }
+                    return withStaleness(conditionalResponses.ok(request, served.value()), served).build();
                 })
                 .onFailure().recoverWithItem(error -> {
                     log.error("An error occurred while retrieving balances: {}", error.getMessage());
-                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity("An unexpected error occurred.").build();
+                    return errorResponse(error, "An unexpected error occurred.");
+                });
+    }
+
+    /**
+     * Saldos de varios clientes en una sola llamada. El cuerpo lleva balances (customerId → saldos, en el orden
+     * recibido, con stale y ageSeconds si se sirvió el last-known-good) y missingCustomerIds (clientes cuya consulta
+     * falló sin last-known-good). El máximo de clientes por lote es reports-service.balances.batch.max-size.
+     *
+     * @param request Los IDs de los clientes.
+     * @return Uni que emite una respuesta HTTP 200 con los saldos por cliente.
+     */
+    @POST
+    @Path("/balances/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Obtener saldos de varios clientes",
+            description = "Consulta los saldos de muchos clientes en una sola llamada, con concurrencia acotada hacia el Account Service.")
+    @APIResponse(responseCode = "200", description = "Saldos por cliente y clientes sin datos.",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = BatchBalancesResponse.class)))
+    @APIResponse(responseCode = "400", description = "Lista de clientes vacía, con IDs vacíos o mayor que el máximo permitido.")
+    public Uni<Response> getBalancesByCustomers(BatchBalancesRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("El cuerpo de la solicitud es obligatorio.");
+        }
+        log.info("Received batch balances request for {} customers.",
+                request.customerIds() == null ? 0 : request.customerIds().size());
+
+        return reportsService.getBalancesByCustomers(request.customerIds())
+                .onItem().transform(balances -> {
+                    if (!balances.missingCustomerIds().isEmpty()) {
+                        log.warn("Batch balances: {} customers without data.", balances.missingCustomerIds().size());
+                    }
+                    return Response.ok(balances).build();
                 });
     }
 
+    /**
+     * Movimientos de una cuenta. Sin parámetros de paginación devuelve todos los movimientos (comportamiento original).
+     * Con limit, cursor, startDate o endDate devuelve una página del más reciente al más antiguo: el cuerpo sigue
+     * siendo un array y el cursor de la página siguiente viaja en la cabecera {@value #NEXT_CURSOR_HEADER}
+     * y en un Link rel="next". El tamaño de página se acota a reports-service.movements.max-page-size.
+     * Las respuestas llevan ETag: con If-None-Match y sin cambios se responde 304 sin cuerpo.
+     */
     @GET
     @Path("/movements")
-    @Operation(summary = "Obtener transacciones por cuenta", description = "Consulta todos los movimientos de una cuenta bancaria o tarjeta de crédito.")
+    @Operation(summary = "Obtener transacciones por cuenta", description = "Consulta los movimientos de una cuenta bancaria o tarjeta de crédito, con paginación por cursor y filtro de fechas opcionales.")
     @APIResponses(value = {
             @APIResponse(
                     responseCode = "200",
                     description = "Transacciones consultadas con éxito",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON)
             ),
-            @APIResponse(responseCode = "400", description = "ID de cuenta inválido."),
+            @APIResponse(responseCode = "304", description = "Los movimientos no han cambiado (If-None-Match)."),
+            @APIResponse(responseCode = "400", description = "ID de cuenta, fechas, limit o cursor inválidos."),
             @APIResponse(responseCode = "404", description = "No se encontraron transacciones para la cuenta."),
-            @APIResponse(responseCode = "500", description = "Error interno del servidor.")
+            @APIResponse(responseCode = "500", description = "Error interno del servidor."),
+            @APIResponse(responseCode = "503", description = "El Transaction Service no está disponible (Circuit Breaker, Timeout o límite de concurrencia).")
     })
     public Uni<Response> getTransactionsByAccountId(
             @Parameter(description = "ID del producto bancario (cuenta).", required = true)
-            @QueryParam("accountId") String accountId) {
+            @QueryParam("accountId") String accountId,
+
+            @Parameter(description = "Fecha mínima del movimiento (YYYY-MM-DD).", example = "2025-01-01")
+            @QueryParam("startDate") LocalDate startDate,
+
+            @Parameter(description = "Fecha máxima del movimiento (YYYY-MM-DD).", example = "2025-01-31")
+            @QueryParam("endDate") LocalDate endDate,
+
+            @Parameter(description = "Tamaño de página (máximo reports-service.movements.max-page-size).", example = "50")
+            @QueryParam("limit") Integer limit,
+
+            @Parameter(description = "Cursor opaco de la página siguiente (cabecera X-Next-Cursor de la respuesta anterior).")
+            @QueryParam("cursor") String cursor,
+
+            @Context UriInfo uriInfo,
+            @Context Request request) {
 
         log.info("Received request to get transactions for account ID: {}", accountId);
 
@@ -96,6 +199,10 @@ public class ReportsResource {
             return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity("Account ID must not be empty.").build());
         }
 
+        if (startDate != null || endDate != null || limit != null || cursor != null) {
+            return getTransactionsPage(accountId, startDate, endDate, limit, cursor, uriInfo, request);
+        }
+
         return reportsService.getTransactionsByAccountId(accountId)
                 .onItem().transform(transactions -> {
                     if (transactions.isEmpty()) {
@@ -103,14 +210,90 @@ public class ReportsResource {
                         return Response.status(Response.Status.NOT_FOUND).entity("No transactions found.").build();
                     }
                     log.info("Successfully retrieved {} transactions for account ID: {}", transactions.size(), accountId);
-                    return Response.ok(transactions).build();
+                    return conditionalResponses.ok(request, transactions).build();
+                })
+                .onFailure().recoverWithItem(error -> {
+                    log.error("An error occurred while retrieving transactions: {}", error.getMessage());
+                    return errorResponse(error, "An unexpected error occurred.");
+                });
+    }
+
+    private Uni<Response> getTransactionsPage(
+            String accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Integer limit,
+            String cursor,
+            UriInfo uriInfo,
+            Request request
+    ) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("startDate no puede ser posterior a endDate.").build());
+        }
+        if (limit != null && limit <= 0) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("limit debe ser mayor que cero.").build());
+        }
+        int pageSize = Math.min(limit == null ? movementsDefaultPageSize : limit, movementsMaxPageSize);
+        // Un cursor inválido lanza IllegalArgumentException (400 por el GlobalExceptionMapper).
+        MovementCursor position = cursor == null || cursor.isBlank() ? null : MovementCursor.decode(cursor);
+
+        return reportsService.getTransactionsByAccountId(accountId, startDate, endDate, position, pageSize)
+                .onItem().transform(page -> {
+                    if (page.items().isEmpty() && position == null) {
+                        log.warn("No transactions found for account ID: {}", accountId);
+                        return Response.status(Response.Status.NOT_FOUND).entity("No transactions found.").build();
+                    }
+                    log.info("Successfully retrieved page of {} transactions for account ID: {}", page.items().size(), accountId);
+                    Response.ResponseBuilder response = conditionalResponses.ok(request, page.items());
+                    if (page.nextCursor() != null) {
+                        response.header(NEXT_CURSOR_HEADER, page.nextCursor())
+                                .link(uriInfo.getRequestUriBuilder()
+                                        .replaceQueryParam("cursor", page.nextCursor())
+                                        .replaceQueryParam("limit", pageSize)
+                                        .build(), "next");
+                    }
+                    return response.build();
                 })
                 .onFailure().recoverWithItem(error -> {
                     log.error("An error occurred while retrieving transactions: {}", error.getMessage());
-                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity("An unexpected error occurred.").build();
+                    return errorResponse(error, "An unexpected error occurred.");
                 });
     }
 
+    /**
+     * Variante en streaming de /movements: escribe un movimiento por línea (application/x-ndjson)
+     * a medida que llegan del Transaction-Service, sin materializar la lista completa en memoria.
+     * Los errores de validación se lanzan antes de iniciar el stream y los mapea el GlobalExceptionMapper.
+     *
+     * @param accountId El ID del producto bancario.
+     * @return Multi que emite los movimientos de la cuenta.
+     */
+    @GET
+    @Path("/movements/stream")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Obtener transacciones por cuenta (streaming NDJSON)",
+            description = "Emite los movimientos de una cuenta en formato NDJSON, uno por línea, con backpressure.")
+    @APIResponse(responseCode = "200", description = "Stream de movimientos iniciado.",
+            content = @Content(mediaType = RestMediaType.APPLICATION_NDJSON))
+    @APIResponse(responseCode = "400", description = "ID de cuenta inválido.")
+    @APIResponse(responseCode = "503", description = "El Transaction Service no respondió dentro del tiempo de espera.")
+    public Multi<TransactionResponse> streamTransactionsByAccountId(
+            @Parameter(description = "ID del producto bancario (cuenta).", required = true)
+            @QueryParam("accountId") String accountId) {
+
+        log.info("Received request to stream transactions for account ID: {}", accountId);
+
+        if (accountId == null || accountId.isBlank()) {
+            log.error("Account ID is null or blank.");
+            throw new IllegalArgumentException("Account ID must not be empty.");
+        }
+
+        return reportsService.streamTransactionsByAccountId(accountId);
+    }
+
     @GET
     @Path("/commissions")
     @Operation(summary = "Generar reporte agregado de comisiones por producto",
@@ -123,16 +306,23 @@ public class ReportsResource {
                             mediaType = MediaType.APPLICATION_JSON,
                             schema = @Schema(implementation = CommissionReportItem.class))
             ),
+            @APIResponse(responseCode = "304", description = "El reporte no ha cambiado (If-None-Match)."),
             @APIResponse(responseCode = "400", description = "Fechas inválidas, nulas o rango incorrecto (startDate posterior a endDate)."),
             @APIResponse(responseCode = "404", description = "No se encontraron comisiones en el periodo."),
-            @APIResponse(responseCode = "500", description = "Error interno del servidor o fallo de comunicación con el Transaction Service.")
+            @APIResponse(responseCode = "500", description = "Error interno del servidor."),
+            @APIResponse(responseCode = "503", description = "El Transaction Service no está disponible (Circuit Breaker, Timeout o límite de concurrencia).")
     })
     public Uni<Response> getAggregatedCommissionsReport(
             @Parameter(description = "Fecha de inicio del periodo (YYYY-MM-DD)", required = true, example = "2025-01-01")
             @RestQuery LocalDate startDate,
 
             @Parameter(description = "Fecha de fin del periodo (YYYY-MM-DD)", required = true, example = "2025-01-31")
-            @RestQuery LocalDate endDate) {
+            @RestQuery LocalDate endDate,
+
+            @Parameter(description = "Particionado del rango para consultas en paralelo (NONE, DAY, WEEK).", example = "WEEK")
+            @RestQuery @DefaultValue("NONE") PartitionGranularity partition,
+
+            @Context Request request) {
 
         log.info("API | Solicitud de reporte de comisiones recibida. Rango: {} a {}", startDate, endDate);
 
@@ -145,8 +335,11 @@ public class ReportsResource {
 
             return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(message).build());
         }
-        // 2. Delegación a la Capa de Servicio
-        return reportsService.generateCommissionsReport(startDate, endDate)
+        // 2. Delegación a la Capa de Servicio (el reporte particionado tiene su propio Timeout y Circuit Breaker)
+        Uni<List<CommissionReportItem>> report = partition == PartitionGranularity.NONE
+                ? reportsService.generateCommissionsReport(startDate, endDate)
+                : reportsService.generatePartitionedCommissionsReport(startDate, endDate, partition);
+        return report
                 .onItem().transform(reportItems -> {
 
                     if (reportItems.isEmpty()) {
@@ -155,17 +348,39 @@ public class ReportsResource {
                     }
 
                     log.info("API | Reporte generado con éxito. {} productos agregados.", reportItems.size());
-                    return Response.ok(reportItems).build();
+                    return conditionalResponses.ok(request, reportItems).build();
                 })
                 .onFailure().recoverWithItem(error -> {
                     // 3. Manejo de Errores (Error de servicio/comunicación)
                     log.error("API | Error interno al generar el reporte: {}", error.getMessage(), error);
-                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                            .entity("Error al procesar el reporte: " + error.getMessage())
-                            .build();
+                    return errorResponse(error, "Error al procesar el reporte: " + error.getMessage());
                 });
     }
 
+    /**
+     * 503 si el servicio externo no está disponible (fallback de Fault Tolerance o rechazo del limitador
+     * de concurrencia), para que el cliente reintente más tarde; 500 para cualquier otro error.
+     */
+    private static Response errorResponse(Throwable error, String message) {
+        Response.Status status = error instanceof ServiceUnavailableException
+                ? Response.Status.SERVICE_UNAVAILABLE
+                : Response.Status.INTERNAL_SERVER_ERROR;
+        return Response.status(status).entity(message).build();
+    }
+
+    /**
+     * Marca como obsoleta una respuesta servida desde el last-known-good ({@value #STALE_HEADER}: true y Age en
+     * segundos), para que los clientes no reintenten en bucle durante un incidente. Las recién calculadas no cambian.
+     */
+    private static Response.ResponseBuilder withStaleness(Response.ResponseBuilder response, Served<?> served) {
+        if (!served.stale()) {
+            return response;
+        }
+        return response
+                .header(STALE_HEADER, "true")
+                .header(AGE_HEADER, served.age().toSeconds());
+    }
+
     /**
      * Endpoint para generar el reporte del Saldo Promedio Diario (SPD) de un cliente
      * para un rango de fechas.
@@ -185,7 +400,7 @@ public class ReportsResource {
                     schema = @Schema(implementation = DailyAverageBalanceReportDto.class)))
     @APIResponse(responseCode = "400", description = "Parámetros de consulta o fechas inválidas.")
     @APIResponse(responseCode = "500", description = "Fallo interno durante la orquestación o cálculo.")
-    public Uni<DailyAverageBalanceReportDto> calculateDailyAverageBalance(
+    public Uni<Response> calculateDailyAverageBalance(
             @Parameter(description = "ID único del cliente.")
             @QueryParam("customerId")
             String customerId,
@@ -200,17 +415,77 @@ public class ReportsResource {
     ) {
         log.info("SPD Resource: Solicitud de cálculo recibida para customerId: {}", customerId);
         return reportsService.generateDailyAverageBalanceReport(customerId, startDate, endDate)
-                .onItem().invoke(report -> {
-                    log.debug("SPD Resource: Cálculo finalizado. Promedio retornado: {}", report.dailyAverageBalance());
+                .onItem().transform(served -> {
+                    log.debug("SPD Resource: Cálculo finalizado. Promedio retornado: {} (obsoleto: {})",
+                            served.value().dailyAverageBalance(), served.stale());
+                    return withStaleness(Response.ok(served.value()), served).build();
                 });
     }
 
+    /**
+     * Endpoint para calcular el Saldo Promedio Diario (SPD) de un cliente sobre varias ventanas
+     * (p. ej. 30/60/90/365 días) en una sola llamada. El historial se carga una vez y cada ventana
+     * se resuelve en O(1) con un índice de sumas prefijas.
+     *
+     * @param request El cliente y la lista de ventanas a calcular.
+     * @return Uni que emite un DailyAverageBalanceReportDto por ventana, en el orden recibido.
+     */
+    @POST
+    @Path("/daily-average-balance/windows")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Calcula el SPD de un cliente para varias ventanas de fechas.",
+            description = "Carga el historial del rango que cubre todas las ventanas y resuelve cada una en O(1).")
+    @APIResponse(responseCode = "200", description = "Reportes SPD generados con éxito.",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                    schema = @Schema(implementation = DailyAverageBalanceReportDto.class)))
+    @APIResponse(responseCode = "400", description = "Cliente, ventanas o fechas inválidas.")
+    @APIResponse(responseCode = "500", description = "Fallo interno durante la orquestación o cálculo.")
+    public Uni<List<DailyAverageBalanceReportDto>> calculateDailyAverageBalanceWindows(DailyAverageWindowsRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("El cuerpo de la solicitud es obligatorio.");
+        }
+        log.info("SPD Resource: Solicitud de cálculo por ventanas recibida para customerId: {}", request.customerId());
+        return reportsService.generateDailyAverageBalanceWindows(request.customerId(), request.windows());
+    }
+
+    /**
+     * Endpoint masivo para calcular el SPD de muchos clientes sobre un mismo periodo (procesos de cierre de mes).
+     * Los resultados se escriben en NDJSON a medida que se completan, uno por cliente; un cliente con error
+     * produce una línea con el campo {@code error} sin interrumpir el resto del lote.
+     *
+     * @param request Los clientes y el periodo a calcular.
+     * @return Multi que emite un BulkDailyAverageResult por cliente.
+     */
+    @POST
+    @Path("/daily-average-balance/bulk")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Calcula el SPD de muchos clientes en una sola llamada.",
+            description = "Fan-out con concurrencia acotada hacia el Account Service; los resultados se emiten en streaming NDJSON.")
+    @APIResponse(responseCode = "200", description = "Stream de resultados iniciado.",
+            content = @Content(mediaType = RestMediaType.APPLICATION_NDJSON,
+                    schema = @Schema(implementation = BulkDailyAverageResult.class)))
+    @APIResponse(responseCode = "400", description = "Lista de clientes vacía o rango de fechas inválido.")
+    public Multi<BulkDailyAverageResult> calculateBulkDailyAverageBalance(BulkDailyAverageRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("El cuerpo de la solicitud es obligatorio.");
+        }
+        log.info("SPD Resource: Solicitud masiva recibida para {} clientes.",
+                request.customerIds() == null ? 0 : request.customerIds().size());
+        return reportsService.generateBulkDailyAverageBalanceReport(request.customerIds(), request.startDate(), request.endDate());
+    }
+
     /**
      * Endpoint para obtener un resumen consolidado de un cliente, incluyendo datos personales
      * y todos los productos bancarios asociados (cuentas).
+     * Los clientes más consultados se sirven desde un snapshot pre-serializado que se refresca en segundo plano
+     * (cabecera Age con su antigüedad en segundos), sin llamar a los servicios externos.
+     * Con fields se serializan sólo los campos pedidos (p. ej. id, tipo y saldo de cada producto).
      *
      * @param customerId El ID único del cliente.
-     * @return Uni que emite una respuesta HTTP 200 con el ConsolidatedSummaryDTO o un error 503/400.
+     * @param fields Proyección de campos opcional.
+     * @return Uni que emite una respuesta HTTP 200 con el ConsolidatedSummaryDTO, 304 si no cambió o un error 503/400.
      */
     @GET
     @Path("/consolidated/{customerId}")
@@ -223,20 +498,43 @@ public class ReportsResource {
             description = "Resumen consolidado generado exitosamente.",
             content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = ConsolidatedSummaryDTO.class))
     )
+    @APIResponse(
+            responseCode = "304",
+            description = "El resumen no ha cambiado (If-None-Match; ETag débil que ignora processingTimestamp)."
+    )
     @APIResponse(
             responseCode = "400",
-            description = "Parámetros de entrada inválidos (e.g., customerId nulo o formato incorrecto)."
+            description = "Parámetros de entrada inválidos (e.g., customerId nulo, formato incorrecto o fields inválido)."
     )
     @APIResponse(
             responseCode = "503",
             description = "Fallo de Resiliencia: La orquestación ha superado el Timeout o el Circuit Breaker está abierto."
     )
-    public Uni<Response> getConsolidatedSummary(@PathParam("customerId") @NotNull String customerId) {
+    public Uni<Response> getConsolidatedSummary(
+            @PathParam("customerId") @NotNull String customerId,
+
+            @Parameter(description = "Campos a incluir, separados por comas (p. ej. customerId,products.id,products.productType,products.balance).")
+            @QueryParam("fields") String fields,
+
+            @Context Request request) {
         if (customerId.isBlank()) {
             return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
                     .entity("El ID del cliente no puede ser vacío.").build());
         }
-        return reportsService.getConsolidatedSummary(customerId)
-                .onItem().transform(summary -> Response.ok(summary).build());
+        // Un fields inválido lanza IllegalArgumentException (400 por el GlobalExceptionMapper).
+        FieldSelection selection = FieldSelection.parse(fields);
+
+        Optional<CachedResponse<PreSerializedEntity>> snapshot = summarySnapshotService.find(customerId);
+        if (snapshot.isPresent()) {
+            return Uni.createFrom().item(conditionalResponses.ok(request, snapshot.get().value(), selection)
+                    .header(AGE_HEADER, snapshot.get().age().toSeconds())
+                    .build());
+        }
+        Uni<Served<ConsolidatedSummaryDTO>> summaryUni = selection.isAll()
+                ? reportsService.getConsolidatedSummary(customerId)
+                : reportsService.getConsolidatedSummary(customerId, selection);
+        return summaryUni
+                .onItem().transform(served -> withStaleness(conditionalResponses.ok(request, served.value(),
+                        served.value().processingTimestamp(), selection), served).build());
     }
 }
\ No newline at end of file
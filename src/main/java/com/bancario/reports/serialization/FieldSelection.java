@@ -0,0 +1,92 @@
+package com.bancario.reports.serialization;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Proyección de campos pedida con el parámetro {@code fields} (p. ej. {@code customerId,products.id,products.balance}).
+ * <p>
+ * Cada ruta se separa por puntos; los arrays no forman parte de la ruta (products.id aplica a cada producto).
+ * Un campo se incluye si su ruta está seleccionada, si es un ancestro de una ruta seleccionada (products para
+ * products.id) o si desciende de una (todos los campos de products si se pide products).
+ */
+public final class FieldSelection {
+
+    public static final FieldSelection ALL = new FieldSelection(Set.of());
+
+    private static final Pattern PATH = Pattern.compile("[A-Za-z][A-Za-z0-9_]*(\\.[A-Za-z][A-Za-z0-9_]*)*");
+    private static final int MAX_PATHS = 64;
+
+    private final Set<String> paths;
+
+    private FieldSelection(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Interpreta el parámetro fields; null o vacío equivale a todos los campos.
+     *
+     * @throws IllegalArgumentException Si alguna ruta no es válida o hay demasiadas.
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> paths = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (paths.size() > MAX_PATHS) {
+            throw new IllegalArgumentException("Se admiten como máximo " + MAX_PATHS + " campos en fields.");
+        }
+        for (String path : paths) {
+            if (!PATH.matcher(path).matches()) {
+                throw new IllegalArgumentException("Campo inválido en fields: " + path);
+            }
+        }
+        return paths.isEmpty() ? ALL : new FieldSelection(Set.copyOf(paths));
+    }
+
+    public boolean isAll() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * Indica si el campo con esta ruta (separada por puntos) debe serializarse.
+     */
+    public boolean includes(String path) {
+        if (isAll() || paths.contains(path)) {
+            return true;
+        }
+        for (String selected : paths) {
+            if (selected.startsWith(path + ".") || path.startsWith(selected + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Subcampos pedidos bajo {@code prefix}, separados por comas, para reenviarlos a un servicio externo;
+     * null si se piden todos (no se selecciona ningún subcampo o se pide el prefijo completo).
+     */
+    public String subFields(String prefix) {
+        if (isAll() || paths.contains(prefix)) {
+            return null;
+        }
+        String subFields = paths.stream()
+                .filter(path -> path.startsWith(prefix + "."))
+                .map(path -> path.substring(prefix.length() + 1))
+                .sorted()
+                .collect(Collectors.joining(","));
+        return subFields.isEmpty() ? null : subFields;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", paths);
+    }
+}
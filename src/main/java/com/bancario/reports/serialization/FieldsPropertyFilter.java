@@ -0,0 +1,44 @@
+package com.bancario.reports.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+/**
+ * Filtro de Jackson que aplica una {@link FieldSelection} durante la serialización, sin construir objetos
+ * intermedios: la ruta de cada campo se obtiene del contexto de escritura del generador (JSON o Smile).
+ * Se aplica a las clases con el filtro {@value JacksonCustomizer#FIELDS_FILTER}.
+ */
+public class FieldsPropertyFilter extends SimpleBeanPropertyFilter {
+
+    private final FieldSelection selection;
+
+    public FieldsPropertyFilter(FieldSelection selection) {
+        this.selection = selection;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider, PropertyWriter writer) throws Exception {
+        if (selection.includes(path(generator.getOutputContext(), writer.getName()))) {
+            writer.serializeAsField(pojo, generator, provider);
+        } else if (!generator.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, generator, provider);
+        }
+    }
+
+    /**
+     * Ruta del campo: nombres de los objetos que contienen al actual (los arrays no cuentan) y el propio campo.
+     */
+    private static String path(JsonStreamContext context, String field) {
+        StringBuilder path = new StringBuilder(field);
+        // El contexto actual es el objeto que se está escribiendo; su nombre está en el contexto padre.
+        for (JsonStreamContext parent = context.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent.inObject() && parent.getCurrentName() != null) {
+                path.insert(0, '.').insert(0, parent.getCurrentName());
+            }
+        }
+        return path.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.bancario.reports.serialization;
+
+import com.bancario.reports.dto.AccountResponse;
+import com.bancario.reports.dto.ConsolidatedSummaryDTO;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+
+/**
+ * Registra el filtro de proyección de campos ({@code fields=}) en el ObjectMapper de la aplicación.
+ * Las clases proyectables lo reciben mediante mix-in (los DTO no cambian) y, salvo que el escritor
+ * indique otra cosa ({@link WireFormats#serialize(Object, jakarta.ws.rs.core.MediaType, FieldSelection)}),
+ * el filtro serializa todos los campos.
+ */
+@Singleton
+public class JacksonCustomizer implements ObjectMapperCustomizer {
+
+    public static final String FIELDS_FILTER = "fields";
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.addMixIn(ConsolidatedSummaryDTO.class, FieldsFilterMixin.class);
+        objectMapper.addMixIn(AccountResponse.class, FieldsFilterMixin.class);
+        objectMapper.setFilterProvider(defaultFilters());
+    }
+
+    static SimpleFilterProvider defaultFilters() {
+        return new SimpleFilterProvider().addFilter(FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    @JsonFilter(FIELDS_FILTER)
+    private abstract static class FieldsFilterMixin {
+    }
+}
@@ -0,0 +1,70 @@
+package com.bancario.reports.serialization;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.function.Supplier;
+
+/**
+ * Entidad ya serializada, con el ETag de cada representación, para servirla repetidamente sin volver a
+ * serializarla (ver {@link WireFormats#preSerialize}).
+ * <p>
+ * JSON se serializa al crearla; Smile sólo la primera vez que se pide su cuerpo, de modo que el caso habitual
+ * (clientes JSON) cuesta una serialización por entidad. El ETag se calcula una sola vez sobre los bytes JSON y el
+ * de Smile es el mismo con el sufijo {@code -smile} (la serialización Smile de una misma entidad es determinista),
+ * así que el ETag de cualquier representación se conoce sin serializarla y un 304 no serializa nada.
+ * Conserva la entidad y su valor volátil (null si los ETag son fuertes) para las peticiones con proyección
+ * de campos, que no pueden usar los bytes.
+ */
+public final class PreSerializedEntity {
+
+    private final Object entity;
+    private final String volatileValue;
+    private final byte[] json;
+    private final EntityTag jsonTag;
+    private final EntityTag smileTag;
+    private final Supplier<byte[]> smileSerializer;
+
+    private volatile byte[] smile;
+
+    PreSerializedEntity(Object entity, String volatileValue, byte[] json, EntityTag jsonTag, Supplier<byte[]> smileSerializer) {
+        this.entity = entity;
+        this.volatileValue = volatileValue;
+        this.json = json;
+        this.jsonTag = jsonTag;
+        this.smileTag = new EntityTag(jsonTag.getValue() + "-smile", jsonTag.isWeak());
+        this.smileSerializer = smileSerializer;
+    }
+
+    public Object entity() {
+        return entity;
+    }
+
+    public String volatileValue() {
+        return volatileValue;
+    }
+
+    public byte[] body(MediaType mediaType) {
+        if (!isSmile(mediaType)) {
+            return json;
+        }
+        byte[] serialized = smile;
+        if (serialized == null) {
+            synchronized (this) {
+                if (smile == null) {
+                    smile = smileSerializer.get();
+                }
+                serialized = smile;
+            }
+        }
+        return serialized;
+    }
+
+    public EntityTag tag(MediaType mediaType) {
+        return isSmile(mediaType) ? smileTag : jsonTag;
+    }
+
+    private static boolean isSmile(MediaType mediaType) {
+        return SmileMessageBodyHandler.APPLICATION_SMILE_TYPE.isCompatible(mediaType);
+    }
+}
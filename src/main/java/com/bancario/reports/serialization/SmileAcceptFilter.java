@@ -0,0 +1,38 @@
+package com.bancario.reports.serialization;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+
+/**
+ * Negociación de Smile con los servicios externos: si reports-service.wire-format.smile.enabled está activo,
+ * las peticiones que aceptan JSON pasan a aceptar {@value SmileMessageBodyHandler#APPLICATION_SMILE} con JSON
+ * como alternativa. Un servicio que no soporte Smile responde en JSON y la respuesta se lee según su Content-Type.
+ * Las peticiones en streaming (application/x-ndjson) no se modifican.
+ */
+@ApplicationScoped
+public class SmileAcceptFilter implements ClientRequestFilter {
+
+    static final String SMILE_OR_JSON = SmileMessageBodyHandler.APPLICATION_SMILE + ", " + MediaType.APPLICATION_JSON + ";q=0.9";
+
+    @ConfigProperty(name = "reports-service.wire-format.smile.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        if (!enabled) {
+            return;
+        }
+        List<Object> accept = requestContext.getHeaders().get(HttpHeaders.ACCEPT);
+        boolean acceptsOnlyJson = accept == null || accept.isEmpty()
+                || (accept.size() == 1 && MediaType.APPLICATION_JSON.equals(String.valueOf(accept.get(0))));
+        if (acceptsOnlyJson) {
+            requestContext.getHeaders().putSingle(HttpHeaders.ACCEPT, SMILE_OR_JSON);
+        }
+    }
+}
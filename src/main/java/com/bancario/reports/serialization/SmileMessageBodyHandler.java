@@ -0,0 +1,74 @@
+package com.bancario.reports.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Lectura y escritura de entidades en Smile (JSON binario de Jackson, {@value #APPLICATION_SMILE}).
+ * <p>
+ * Usa el ObjectMapper de Smile de {@link WireFormats} (misma configuración que el de JSON). Smile evita
+ * repetir los nombres de campo (back-references) y codifica los números en binario, lo que reduce el
+ * tamaño y el coste de parseo de las listas grandes. Se usa en los endpoints de ReportsResource (según Accept)
+ * y en los clientes REST (ver {@link SmileAcceptFilter}).
+ */
+@Provider
+@Consumes(SmileMessageBodyHandler.APPLICATION_SMILE)
+@Produces(SmileMessageBodyHandler.APPLICATION_SMILE)
+public class SmileMessageBodyHandler implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(APPLICATION_SMILE);
+
+    @Inject
+    WireFormats wireFormats;
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return APPLICATION_SMILE_TYPE.isCompatible(mediaType);
+    }
+
+    @Override
+    public Object readFrom(
+            Class<Object> type,
+            Type genericType,
+            Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders,
+            InputStream entityStream
+    ) throws IOException {
+        ObjectMapper mapper = wireFormats.smile();
+        return mapper.readerFor(mapper.constructType(genericType)).readValue(entityStream);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        // byte[] ya serializado (p. ej. por ConditionalResponses) se escribe tal cual.
+        return type != byte[].class && APPLICATION_SMILE_TYPE.isCompatible(mediaType);
+    }
+
+    @Override
+    public void writeTo(
+            Object entity,
+            Class<?> type,
+            Type genericType,
+            Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders,
+            OutputStream entityStream
+    ) throws IOException {
+        wireFormats.smile().writeValue(entityStream, entity);
+    }
+}
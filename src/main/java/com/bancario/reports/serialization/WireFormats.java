@@ -0,0 +1,163 @@
+package com.bancario.reports.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Variant;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * ObjectMapper de cada formato de intercambio soportado (JSON y Smile).
+ * El de Smile es una copia del ObjectMapper de la aplicación con SmileFactory, de modo que los módulos
+ * y la configuración (fechas ISO, propiedades desconocidas, etc.) son los mismos que en JSON.
+ */
+@ApplicationScoped
+public class WireFormats {
+
+    private static final int TAG_BYTES = 16;
+
+    private static final List<Variant> VARIANTS = Variant.mediaTypes(
+            MediaType.APPLICATION_JSON_TYPE, SmileMessageBodyHandler.APPLICATION_SMILE_TYPE).build();
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private ObjectMapper smileMapper;
+
+    @PostConstruct
+    void init() {
+        // El runtime de JAX-RS es dueño de los streams: Jackson no debe cerrarlos.
+        smileMapper = objectMapper.copyWith(new SmileFactory())
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    public ObjectMapper smile() {
+        return smileMapper;
+    }
+
+    /**
+     * Representación (JSON o Smile) negociada con el Accept de la petición; JSON si no acepta ninguna.
+     */
+    public static MediaType negotiate(Request request) {
+        Variant variant = request.selectVariant(VARIANTS);
+        return variant == null ? MediaType.APPLICATION_JSON_TYPE : variant.getMediaType();
+    }
+
+    /**
+     * Serializa una entidad en la representación indicada (JSON o Smile).
+     */
+    public byte[] serialize(Object entity, MediaType mediaType) {
+        return serialize(entity, mediaType, FieldSelection.ALL);
+    }
+
+    /**
+     * Serializa una entidad en la representación indicada aplicando la proyección de campos
+     * (sólo afecta a las clases con el filtro {@value JacksonCustomizer#FIELDS_FILTER}).
+     */
+    public byte[] serialize(Object entity, MediaType mediaType, FieldSelection fields) {
+        ObjectMapper mapper = forMediaType(mediaType);
+        try {
+            if (fields.isAll()) {
+                return mapper.writeValueAsBytes(entity);
+            }
+            return mapper.writer(JacksonCustomizer.defaultFilters()
+                            .addFilter(JacksonCustomizer.FIELDS_FILTER, new FieldsPropertyFilter(fields)))
+                    .writeValueAsBytes(entity);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serializa una entidad en JSON (Smile se serializa al pedirse por primera vez). Sin {@code volatileValue}
+     * los ETag son fuertes (huella de los bytes enviados); con él son débiles y se calculan sobre los bytes JSON
+     * omitiendo ese valor (ver {@link #weakEntityTag}).
+     */
+    public PreSerializedEntity preSerialize(Object entity, String volatileValue) {
+        byte[] json = serialize(entity, MediaType.APPLICATION_JSON_TYPE);
+        EntityTag jsonTag = volatileValue == null ? entityTag(json, false) : weakEntityTag(json, volatileValue);
+        return new PreSerializedEntity(entity, volatileValue, json, jsonTag,
+                () -> serialize(entity, SmileMessageBodyHandler.APPLICATION_SMILE_TYPE));
+    }
+
+    /**
+     * ETag a partir de los bytes de una representación: SHA-256 truncado a 128 bits en base64url.
+     */
+    public static EntityTag entityTag(byte[] body, boolean weak) {
+        MessageDigest digest = sha256();
+        digest.update(body);
+        return toEntityTag(digest, weak);
+    }
+
+    /**
+     * ETag débil de una representación ya serializada, sin volver a serializarla: la huella de sus bytes
+     * omitiendo la primera aparición de {@code volatileValue}, un valor que cambia en cada llamada aunque el
+     * contenido no cambie (p. ej. processingTimestamp). Si el valor no aparece (p. ej. porque fields= lo excluye)
+     * se usan todos los bytes.
+     */
+    public static EntityTag weakEntityTag(byte[] body, String volatileValue) {
+        byte[] skipped = volatileValue == null ? new byte[0] : volatileValue.getBytes(StandardCharsets.UTF_8);
+        int from = indexOf(body, skipped);
+        MessageDigest digest = sha256();
+        if (from < 0) {
+            digest.update(body);
+        } else {
+            digest.update(body, 0, from);
+            digest.update(body, from + skipped.length, body.length - from - skipped.length);
+        }
+        return toEntityTag(digest, true);
+    }
+
+    private static int indexOf(byte[] body, byte[] value) {
+        if (value.length == 0) {
+            return -1;
+        }
+        outer:
+        for (int i = 0; i <= body.length - value.length; i++) {
+            for (int j = 0; j < value.length; j++) {
+                if (body[i + j] != value[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private static EntityTag toEntityTag(MessageDigest digest, boolean weak) {
+        byte[] hash = digest.digest();
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, TAG_BYTES)), weak);
+    }
+
+    /**
+     * ObjectMapper para una representación: Smile si el tipo es compatible con
+     * {@value SmileMessageBodyHandler#APPLICATION_SMILE}, JSON en cualquier otro caso.
+     */
+    public ObjectMapper forMediaType(MediaType mediaType) {
+        return SmileMessageBodyHandler.APPLICATION_SMILE_TYPE.isCompatible(mediaType) ? smileMapper : objectMapper;
+    }
+}
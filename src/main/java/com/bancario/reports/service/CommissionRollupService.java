@@ -0,0 +1,21 @@
+package com.bancario.reports.service;
+
+import com.bancario.reports.dto.CommissionReportItem;
+import io.smallrye.mutiny.Uni;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CommissionRollupService {
+
+    /**
+     * Genera el reporte agregado de comisiones combinando rollups diarios.
+     * Los días cerrados ya agregados se sirven desde memoria (o MongoDB) y sólo los días
+     * no vistos y el día en curso se consultan al Transaction-Service.
+     *
+     * @param startDate La fecha de inicio del periodo.
+     * @param endDate La fecha de fin del periodo.
+     * @return Uni que emite la lista del reporte final agregado (CommissionReportItem).
+     */
+    Uni<List<CommissionReportItem>> getCommissionsReport(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,32 @@
+package com.bancario.reports.service;
+
+import com.bancario.reports.dto.DailyBalanceHistoryDto;
+import com.bancario.reports.enums.LimiterAdmission;
+import io.smallrye.mutiny.Uni;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyBalanceHistoryService {
+
+    /**
+     * Obtiene el historial de saldos diarios (EOD) de un cliente en un rango de fechas.
+     * Los días cerrados se leen del store materializado y sólo los días faltantes
+     * (o el día en curso) se solicitan al account-service.
+     *
+     * @param customerId El ID del cliente.
+     * @param startDate La fecha de inicio del periodo.
+     * @param endDate La fecha de fin del periodo.
+     * @return Uni que emite la lista de DailyBalanceHistoryDto del rango.
+     */
+    default Uni<List<DailyBalanceHistoryDto>> getDailyBalances(String customerId, LocalDate startDate, LocalDate endDate) {
+        return getDailyBalances(customerId, startDate, endDate, LimiterAdmission.REJECT);
+    }
+
+    /**
+     * Igual que {@link #getDailyBalances(String, LocalDate, LocalDate)}, indicando cómo se admite la consulta
+     * al account-service en el limitador de concurrencia (WAIT en los fan-out internos).
+     */
+    Uni<List<DailyBalanceHistoryDto>> getDailyBalances(String customerId, LocalDate startDate, LocalDate endDate,
+                                                       LimiterAdmission admission);
+}
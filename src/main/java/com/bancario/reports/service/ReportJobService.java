@@ -0,0 +1,28 @@
+package com.bancario.reports.service;
+
+import com.bancario.reports.dto.ReportJobRequest;
+import com.bancario.reports.dto.ReportJobResponse;
+
+import java.util.Optional;
+
+public interface ReportJobService {
+
+    /**
+     * Encola un reporte pesado para ejecutarlo en el pool acotado de jobs, fuera de los
+     * tiempos máximos síncronos (@Timeout) de los endpoints de reporte.
+     *
+     * @param request El tipo de reporte y sus parámetros.
+     * @return El estado inicial del job (QUEUED) con su ID.
+     * @throws IllegalArgumentException Si el tipo, el cliente o el rango de fechas es inválido.
+     * @throws com.bancario.reports.exception.ServiceUnavailableException Si la cola de jobs está llena.
+     */
+    ReportJobResponse submit(ReportJobRequest request);
+
+    /**
+     * Consulta el estado, el progreso y, si terminó, el resultado de un job.
+     *
+     * @param jobId El ID devuelto por submit.
+     * @return El estado del job, o vacío si no existe o su resultado ya expiró.
+     */
+    Optional<ReportJobResponse> find(String jobId);
+}
@@ -1,6 +1,10 @@
 package com.bancario.reports.service;
 
+import com.bancario.reports.cache.Served;
 import com.bancario.reports.dto.*;
+import com.bancario.reports.enums.PartitionGranularity;
+import com.bancario.reports.serialization.FieldSelection;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 import java.time.LocalDate;
@@ -12,9 +16,20 @@ public interface ReportsService {
      * Obtiene una lista de saldos disponibles para todas las cuentas de un cliente.
      *
      * @param customerId El ID del cliente.
-     * @return Un Uni que emite una lista de BalanceReportDTO.
+     * @return Un Uni que emite la lista de BalanceReportDTO, obsoleta (last-known-good) si el Account-Service falló.
      */
-    Uni<List<BalanceReportDTO>> getBalancesByCustomer(String customerId);
+    Uni<Served<List<BalanceReportDTO>>> getBalancesByCustomer(String customerId);
+
+    /**
+     * Obtiene los saldos disponibles de muchos clientes en una sola llamada, con concurrencia acotada
+     * hacia el Account-Service (o en lotes si está habilitado). Los saldos servidos desde el last-known-good
+     * se marcan como obsoletos y los clientes sin datos se listan aparte.
+     *
+     * @param customerIds Los IDs de los clientes (los duplicados se ignoran).
+     * @return Un Uni que emite los saldos por cliente, en el orden recibido, y los clientes sin datos.
+     * @throws IllegalArgumentException Si la lista está vacía, supera el máximo o contiene IDs vacíos.
+     */
+    Uni<BatchBalancesResponse> getBalancesByCustomers(List<String> customerIds);
 
     /**
      * Obtiene una lista de todos los movimientos para un producto bancario específico.
@@ -23,6 +38,30 @@ public interface ReportsService {
      */
     Uni<List<TransactionResponse>> getTransactionsByAccountId(String accountId);
 
+    /**
+     * Obtiene una página de movimientos de un producto bancario, del más reciente al más antiguo.
+     * @param accountId El ID del producto bancario (cuenta o tarjeta).
+     * @param startDate Fecha mínima del movimiento (inclusive), o null.
+     * @param endDate Fecha máxima del movimiento (inclusive), o null.
+     * @param cursor Posición del último movimiento de la página anterior, o null para la primera página.
+     * @param limit Tamaño de la página (ya acotado por el Resource).
+     * @return Uni que emite la página y el cursor de la siguiente (null si no hay más).
+     */
+    Uni<TransactionPage> getTransactionsByAccountId(
+            String accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MovementCursor cursor,
+            int limit
+    );
+
+    /**
+     * Emite en streaming los movimientos de un producto bancario, sin materializar la lista completa.
+     * @param accountId El ID del producto bancario (cuenta o tarjeta).
+     * @return Multi que emite cada TransactionResponse a medida que llega del Transaction-Service.
+     */
+    Multi<TransactionResponse> streamTransactionsByAccountId(String accountId);
+
     /**
      * Genera el reporte agregado de comisiones, agrupado por producto,
      * consumiendo datos del Transaction-Service.
@@ -32,6 +71,17 @@ public interface ReportsService {
      */
     Uni<List<CommissionReportItem>> generateCommissionsReport(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Genera el reporte agregado de comisiones dividiendo el rango en particiones (día o semana)
+     * que se consultan en paralelo con una ventana acotada y se combinan al final.
+     * Cada partición tiene su propio tiempo máximo y el número de particiones está acotado.
+     * @param startDate La fecha de inicio del periodo.
+     * @param endDate La fecha de fin del periodo.
+     * @param granularity Tamaño de las particiones (NONE equivale a una sola llamada).
+     * @return Uni que emite una lista del reporte final agregado (CommissionReportItem).
+     */
+    Uni<List<CommissionReportItem>> generatePartitionedCommissionsReport(LocalDate startDate, LocalDate endDate, PartitionGranularity granularity);
+
     /**
      * Genera el reporte del Saldo Promedio Diario (SPD) para un cliente,
      * orquestando la obtención del historial de saldos y realizando el cálculo final.
@@ -39,21 +89,63 @@ public interface ReportsService {
      * @param customerId El ID del cliente a consultar.
      * @param startDate La fecha de inicio del periodo.
      * @param endDate La fecha de fin del periodo.
-     * @return Uni que emite el reporte final DailyAverageBalanceReportDto.
+     * @return Uni que emite el reporte final DailyAverageBalanceReportDto, obsoleto (last-known-good) si la
+     * orquestación falló.
      * @throws IllegalArgumentException Si alguno de los parámetros de entrada es inválido.
      */
-    Uni<DailyAverageBalanceReportDto> generateDailyAverageBalanceReport(
+    Uni<Served<DailyAverageBalanceReportDto>> generateDailyAverageBalanceReport(
             String customerId,
             LocalDate startDate,
             LocalDate endDate
     );
 
+    /**
+     * Calcula el Saldo Promedio Diario (SPD) de un cliente para varias ventanas de fechas en una sola llamada.
+     * El historial se carga una única vez para el rango que cubre todas las ventanas y cada ventana
+     * se resuelve en O(1) mediante un índice de sumas prefijas.
+     *
+     * @param customerId El ID del cliente a consultar.
+     * @param windows Las ventanas [startDate, endDate] a calcular.
+     * @return Uni que emite un DailyAverageBalanceReportDto por ventana, en el mismo orden recibido.
+     * @throws IllegalArgumentException Si el cliente, la lista de ventanas o alguna ventana es inválida.
+     */
+    Uni<List<DailyAverageBalanceReportDto>> generateDailyAverageBalanceWindows(String customerId, List<DateWindow> windows);
+
+    /**
+     * Calcula el SPD de muchos clientes para un mismo periodo con concurrencia acotada.
+     * Los resultados se emiten a medida que se completan (no en el orden de entrada) y los
+     * errores de un cliente se reportan en su propio resultado sin fallar el lote.
+     *
+     * @param customerIds Los IDs de los clientes a calcular.
+     * @param startDate La fecha de inicio del periodo.
+     * @param endDate La fecha de fin del periodo.
+     * @return Multi que emite un BulkDailyAverageResult por cliente.
+     * @throws IllegalArgumentException Si la lista de clientes o el rango de fechas es inválido.
+     */
+    Multi<BulkDailyAverageResult> generateBulkDailyAverageBalanceReport(
+            List<String> customerIds,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
     /**
      * Elabora un resumen consolidado del cliente, orquestando las llamadas a Customer y Account Services
      * para obtener datos personales y de productos.
      *
      * @param customerId El ID del cliente.
-     * @return Uni que emite el ConsolidatedSummaryDTO.
+     * @return Uni que emite el ConsolidatedSummaryDTO, obsoleto (last-known-good) si la orquestación falló.
+     */
+    Uni<Served<ConsolidatedSummaryDTO>> getConsolidatedSummary(String customerId);
+
+    /**
+     * Variante de getConsolidatedSummary con proyección de campos. La proyección la aplica el serializador;
+     * si reports-service.fields.upstream.enabled está activo, los campos pedidos de products se reenvían
+     * además al Account-Service para que devuelva cuentas más pequeñas.
+     *
+     * @param customerId El ID del cliente.
+     * @param fields Los campos pedidos con el parámetro fields.
+     * @return Uni que emite el ConsolidatedSummaryDTO (con cuentas posiblemente incompletas), obsoleto
+     * (last-known-good) si la orquestación falló.
      */
-    Uni<ConsolidatedSummaryDTO> getConsolidatedSummary(String customerId);
+    Uni<Served<ConsolidatedSummaryDTO>> getConsolidatedSummary(String customerId, FieldSelection fields);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.bancario.reports.service;
+
+import com.bancario.reports.cache.CachedResponse;
+import com.bancario.reports.serialization.PreSerializedEntity;
+
+import java.util.Optional;
+
+public interface SummarySnapshotService {
+
+    /**
+     * Registra una consulta del resumen consolidado de un cliente y devuelve su snapshot pre-serializado,
+     * si el cliente está entre los más consultados y el snapshot no ha superado la antigüedad máxima.
+     *
+     * @param customerId El ID del cliente.
+     * @return El snapshot con el instante en que se generó, o vacío si hay que calcular el resumen.
+     */
+    Optional<CachedResponse<PreSerializedEntity>> find(String customerId);
+}
@@ -0,0 +1,269 @@
+package com.bancario.reports.service.impl;
+
+import com.bancario.reports.aggregation.CommissionAccumulator;
+import com.bancario.reports.aggregation.CommissionRangeRollups;
+import com.bancario.reports.dto.CommissionReportItem;
+import com.bancario.reports.dto.DateWindow;
+import com.bancario.reports.entity.CommissionDayRollup;
+import com.bancario.reports.execution.ComputeOffloader;
+import com.bancario.reports.gateway.TransactionsServiceGateway;
+import com.bancario.reports.repository.CommissionDayRollupRepository;
+import com.bancario.reports.service.CommissionRollupService;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Rollups de comisiones por día cerrado y productName.
+ * <p>
+ * Un día cerrado ya agregado no se vuelve a pedir al Transaction-Service: su rollup se guarda en la
+ * caché acotada {@value #CLOSED_DAYS_CACHE} y, opcionalmente, en MongoDB (commission_day_rollups) para
+ * sobrevivir a reinicios y a los desalojos de la caché. Un reporte [startDate, endDate] combina los rollups
+ * conocidos y sólo consulta los tramos contiguos de días no vistos más el día en curso (que nunca se guarda).
+ * Los rollups publicados son inmutables: se combinan siempre sobre un acumulador nuevo y se persisten sin
+ * redondear, de modo que el total del reporte se redondea una sola vez. Los días sin comisiones caducan tras
+ * reports-service.commissions.rollup.empty-day-ttl (en memoria y en MongoDB) y se vuelven a consultar.
+ * <p>
+ * Las comisiones sin transactionDate no pueden asignarse a un día: se anclan al primer día del tramo consultado
+ * y se guardan con el rollup de ese día (ver {@link CommissionRangeRollups}), de modo que un reporte servido desde
+ * los rollups guardados suma lo mismo que el que consultó los tramos.
+ */
+@Slf4j
+@ApplicationScoped
+public class CommissionRollupServiceImpl implements CommissionRollupService {
+
+    public static final String CLOSED_DAYS_CACHE = "commission-day-rollups";
+
+    private static final String COMPUTE_REPORT = "commissions";
+
+    @Inject
+    TransactionsServiceGateway transactionsServiceGateway;
+
+    @Inject
+    CommissionDayRollupRepository rollupRepository;
+
+    @Inject
+    @CacheName(CLOSED_DAYS_CACHE)
+    Cache closedDays;
+
+    // La agregación por día y la combinación de rollups usan el modo de cálculo del reporte de comisiones.
+    @Inject
+    ComputeOffloader computeOffloader;
+
+    @ConfigProperty(name = "reports-service.commissions.rollup.store.enabled", defaultValue = "true")
+    boolean storeEnabled;
+
+    /**
+     * Días que deben transcurrir para considerar un día cerrado (1 = hasta ayer inclusive).
+     */
+    @ConfigProperty(name = "reports-service.commissions.rollup.closed-after-days", defaultValue = "1")
+    int closedAfterDays;
+
+    // Vida de los rollups de días sin comisiones antes de volver a consultarlos al Transaction-Service.
+    @ConfigProperty(name = "reports-service.commissions.rollup.empty-day-ttl", defaultValue = "6H")
+    Duration emptyDayTtl;
+
+    @ConfigProperty(name = "reports-service.commissions.streaming.enabled", defaultValue = "false")
+    boolean streamingEnabled;
+
+    @ConfigProperty(name = "reports-service.commissions.partition.concurrency", defaultValue = "4")
+    int fetchConcurrency;
+
+    @Override
+    public Uni<List<CommissionReportItem>> getCommissionsReport(LocalDate startDate, LocalDate endDate) {
+        LocalDate lastClosedDay = LocalDate.now().minusDays(closedAfterDays);
+        LocalDate closedEnd = endDate.isAfter(lastClosedDay) ? lastClosedDay : endDate;
+
+        return warmFromStore(startDate, closedEnd)
+                .onItem().transformToUni(ignored -> {
+                    List<DateWindow> missing = missingRanges(startDate, endDate);
+                    log.debug("ROLLUP | Rango [{} - {}]: {} tramos a consultar al Transaction-Service.",
+                            startDate, endDate, missing.size());
+
+                    return Multi.createFrom().iterable(missing)
+                            .onItem().transformToUni(this::fetchDailyRollups)
+                            .merge(fetchConcurrency)
+                            .collect().in(CommissionRangeRollups::new, CommissionRangeRollups::merge)
+                            .onItem().call(fetched -> publishClosedDays(fetched, closedEnd))
+                            .onItem().transformToUni(fetched -> computeOffloader.compute(COMPUTE_REPORT, "merge",
+                                    () -> fetched.report(startDate, endDate, this::closedDay)));
+                });
+    }
+
+    /**
+     * Carga desde MongoDB los rollups cerrados del rango que aún no están en memoria.
+     * Si el store no está disponible se continúa consultando al Transaction-Service.
+     */
+    private Uni<Void> warmFromStore(LocalDate startDate, LocalDate closedEnd) {
+        if (!storeEnabled || startDate.isAfter(closedEnd) || allInMemory(startDate, closedEnd)) {
+            return Uni.createFrom().voidItem();
+        }
+        return rollupRepository.findByRange(startDate, closedEnd)
+                .onItem().invoke(rollups -> {
+                    Instant now = Instant.now();
+                    rollups.forEach(rollup -> {
+                        // El monitor TTL de MongoDB borra con retraso: los rollups ya caducados se ignoran.
+                        boolean expired = rollup.getExpiresAt() != null && !rollup.getExpiresAt().isAfter(now);
+                        if (!expired && closedDay(rollup.getDate()) == null) {
+                            putClosedDay(rollup.getDate(), new ClosedDay(toAccumulator(rollup), rollup.getExpiresAt()));
+                        }
+                    });
+                })
+                .replaceWithVoid()
+                .onFailure().recoverWithItem(failure -> {
+                    log.warn("ROLLUP | No se pudo leer commission_day_rollups. Causa: {}", failure.getMessage());
+                    return null;
+                });
+    }
+
+    private boolean allInMemory(LocalDate startDate, LocalDate closedEnd) {
+        for (LocalDate day = startDate; !day.isAfter(closedEnd); day = day.plusDays(1)) {
+            if (closedDay(day) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Agrupa en tramos contiguos los días del rango sin rollup cerrado (incluye siempre los días abiertos).
+     */
+    private List<DateWindow> missingRanges(LocalDate startDate, LocalDate endDate) {
+        List<DateWindow> ranges = new ArrayList<>();
+        LocalDate rangeStart = null;
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            boolean missing = closedDay(day) == null;
+            if (missing && rangeStart == null) {
+                rangeStart = day;
+            } else if (!missing && rangeStart != null) {
+                ranges.add(new DateWindow(rangeStart, day.minusDays(1)));
+                rangeStart = null;
+            }
+        }
+        if (rangeStart != null) {
+            ranges.add(new DateWindow(rangeStart, endDate));
+        }
+        return ranges;
+    }
+
+    /**
+     * Consulta un tramo y reparte las comisiones en un acumulador por día (vacío si el día no tiene comisiones);
+     * las comisiones sin fecha se anclan al primer día del tramo.
+     */
+    private Uni<CommissionRangeRollups> fetchDailyRollups(DateWindow range) {
+        if (streamingEnabled) {
+            return computeOffloader.fold(COMPUTE_REPORT,
+                    transactionsServiceGateway.streamCommissionsReportData(range.startDate(), range.endDate()),
+                    () -> new CommissionRangeRollups(range.startDate(), range.endDate()), CommissionRangeRollups::add);
+        }
+        return transactionsServiceGateway.getCommissionsReportData(range.startDate(), range.endDate())
+                .onItem().transformToUni(commissions -> computeOffloader.compute(COMPUTE_REPORT, "rollup", () -> {
+                    CommissionRangeRollups fetched = new CommissionRangeRollups(range.startDate(), range.endDate());
+                    commissions.forEach(fetched::add);
+                    return fetched;
+                }));
+    }
+
+    /**
+     * Publica en memoria (y en MongoDB si está habilitado) los rollups de los días cerrados recién agregados.
+     * Un fallo al persistir se registra pero no afecta a la respuesta.
+     */
+    private Uni<Void> publishClosedDays(CommissionRangeRollups fetched, LocalDate closedEnd) {
+        List<CommissionDayRollup> newlyClosed = new ArrayList<>();
+        Instant emptyDayExpiry = Instant.now().plus(emptyDayTtl);
+        fetched.days().forEach(day -> {
+            if (!day.isAfter(closedEnd) && closedDay(day) == null) {
+                CommissionAccumulator rollup = fetched.rollup(day);
+                Instant expiresAt = rollup.count() == 0 ? emptyDayExpiry : null;
+                putClosedDay(day, new ClosedDay(rollup, expiresAt));
+                newlyClosed.add(toDocument(day, fetched.dated(day), fetched.undated(day), expiresAt));
+            }
+        });
+        if (!storeEnabled || newlyClosed.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return rollupRepository.persistOrUpdate(newlyClosed)
+                .onItem().invoke(() -> log.debug("ROLLUP | {} días cerrados persistidos.", newlyClosed.size()))
+                .onFailure().recoverWithItem(failure -> {
+                    log.warn("ROLLUP | No se pudieron persistir los rollups diarios. Causa: {}", failure.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * Rollup cerrado del día en memoria, o null si no se conoce o ya caducó (días sin comisiones).
+     */
+    private CommissionAccumulator closedDay(LocalDate day) {
+        CompletableFuture<Object> future = closedDays.as(CaffeineCache.class).getIfPresent(day);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        ClosedDay closed = (ClosedDay) future.getNow(null);
+        if (closed == null || (closed.expiresAt() != null && !closed.expiresAt().isAfter(Instant.now()))) {
+            return null;
+        }
+        return closed.rollup();
+    }
+
+    private void putClosedDay(LocalDate day, ClosedDay closed) {
+        closedDays.as(CaffeineCache.class).put(day, CompletableFuture.completedFuture(closed));
+    }
+
+    private CommissionDayRollup toDocument(
+            LocalDate day,
+            CommissionAccumulator dated,
+            CommissionAccumulator undated,
+            Instant expiresAt
+    ) {
+        return CommissionDayRollup.builder()
+                .id(day.toString())
+                .date(day)
+                .products(toProductFees(dated))
+                .undatedProducts(undated != null ? toProductFees(undated) : null)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private List<CommissionDayRollup.ProductFees> toProductFees(CommissionAccumulator accumulator) {
+        return accumulator.toExactItems().stream()
+                .map(item -> CommissionDayRollup.ProductFees.builder()
+                        .productName(item.productName())
+                        .productType(item.productType())
+                        .totalFees(item.totalFees())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private CommissionAccumulator toAccumulator(CommissionDayRollup rollup) {
+        CommissionAccumulator accumulator = new CommissionAccumulator();
+        addProductFees(accumulator, rollup.getProducts());
+        addProductFees(accumulator, rollup.getUndatedProducts());
+        return accumulator;
+    }
+
+    private static void addProductFees(CommissionAccumulator accumulator, List<CommissionDayRollup.ProductFees> products) {
+        if (products != null) {
+            products.forEach(product ->
+                    accumulator.addTotal(product.getProductName(), product.getProductType(), product.getTotalFees()));
+        }
+    }
+
+    /**
+     * Entrada de la caché de días cerrados: el rollup y, si el día no tiene comisiones, cuándo caduca.
+     */
+    private record ClosedDay(CommissionAccumulator rollup, Instant expiresAt) {}
+}
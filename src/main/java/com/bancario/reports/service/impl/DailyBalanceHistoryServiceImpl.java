@@ -0,0 +1,213 @@
+package com.bancario.reports.service.impl;
+
+import com.bancario.reports.dto.DailyBalanceHistoryDto;
+import com.bancario.reports.enums.LimiterAdmission;
+import com.bancario.reports.entity.DailyBalanceSnapshot;
+import com.bancario.reports.gateway.AccountServiceGateway;
+import com.bancario.reports.repository.DailyBalanceSnapshotRepository;
+import com.bancario.reports.service.DailyBalanceHistoryService;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Store de lectura (read-through) del historial EOD sobre MongoDB.
+ * <p>
+ * Los snapshots de días cerrados nunca cambian, por lo que se materializan la primera vez que
+ * se obtienen del account-service. En consultas posteriores el rango cerrado es un escaneo local
+ * sobre el índice (customerId, date) y sólo el tramo faltante (y el día en curso) viaja por la red.
+ */
+@Slf4j
+@ApplicationScoped
+public class DailyBalanceHistoryServiceImpl implements DailyBalanceHistoryService {
+
+    @Inject
+    AccountServiceGateway accountServiceGateway;
+
+    @Inject
+    DailyBalanceSnapshotRepository snapshotRepository;
+
+    @ConfigProperty(name = "reports-service.daily-balance-store.enabled", defaultValue = "true")
+    boolean storeEnabled;
+
+    /**
+     * Días que deben transcurrir para considerar un día cerrado (1 = hasta ayer inclusive).
+     */
+    @ConfigProperty(name = "reports-service.daily-balance-store.closed-after-days", defaultValue = "1")
+    int closedAfterDays;
+
+    // Tiempo máximo de la lectura del store; al agotarse se consulta el account-service.
+    @ConfigProperty(name = "reports-service.daily-balance-store.read-timeout.ms", defaultValue = "500")
+    long readTimeoutMs;
+
+    // Vida de los snapshots de días sin productos antes de volver a consultarlos al account-service.
+    @ConfigProperty(name = "reports-service.daily-balance-store.empty-day-ttl", defaultValue = "6H")
+    Duration emptyDayTtl;
+
+    @Override
+    public Uni<List<DailyBalanceHistoryDto>> getDailyBalances(String customerId, LocalDate startDate, LocalDate endDate,
+                                                              LimiterAdmission admission) {
+        LocalDate lastClosedDay = LocalDate.now().minusDays(closedAfterDays);
+        LocalDate closedEnd = endDate.isAfter(lastClosedDay) ? lastClosedDay : endDate;
+
+        if (!storeEnabled || startDate.isAfter(closedEnd)) {
+            // Sin store o sin días cerrados en el rango: todo se consulta al account-service.
+            return accountServiceGateway.getDailyBalancesByCustomer(customerId, startDate, endDate, admission);
+        }
+
+        return snapshotRepository.findByCustomerAndRange(customerId, startDate, closedEnd)
+                .ifNoItem().after(Duration.ofMillis(readTimeoutMs)).fail()
+                .onFailure().recoverWithItem(failure -> {
+                    log.warn("STORE | No se pudo leer el store de saldos para {}. Se consultará el account-service. Causa: {}",
+                            customerId, failure.getMessage());
+                    return List.of();
+                })
+                .onItem().transformToUni(stored ->
+                        completeFromUpstream(customerId, startDate, endDate, closedEnd, stored, admission));
+    }
+
+    /**
+     * Completa los snapshots locales con el tramo faltante obtenido del account-service.
+     * Se pide un único rango contiguo [primer día faltante, último día faltante o endDate]
+     * para mantener una sola llamada remota por consulta.
+     */
+    private Uni<List<DailyBalanceHistoryDto>> completeFromUpstream(
+            String customerId,
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalDate closedEnd,
+            List<DailyBalanceSnapshot> stored,
+            LimiterAdmission admission
+    ) {
+        Set<LocalDate> storedDays = stored.stream()
+                .map(DailyBalanceSnapshot::getDate)
+                .collect(Collectors.toSet());
+
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate day = startDate; !day.isAfter(closedEnd); day = day.plusDays(1)) {
+            if (!storedDays.contains(day)) {
+                if (firstMissing == null) {
+                    firstMissing = day;
+                }
+                lastMissing = day;
+            }
+        }
+
+        boolean includesOpenDays = endDate.isAfter(closedEnd);
+        if (firstMissing == null && !includesOpenDays) {
+            log.debug("STORE | Rango [{} - {}] de {} servido íntegramente desde el store.", startDate, endDate, customerId);
+            return Uni.createFrom().item(toHistory(stored));
+        }
+
+        LocalDate fetchStart = firstMissing != null ? firstMissing : closedEnd.plusDays(1);
+        LocalDate fetchEnd = includesOpenDays ? endDate : lastMissing;
+        log.debug("STORE | {} de {} días servidos desde el store para {}. Consultando [{} - {}] al account-service.",
+                storedDays.size(), closedEnd.toEpochDay() - startDate.toEpochDay() + 1, customerId, fetchStart, fetchEnd);
+
+        return accountServiceGateway.getDailyBalancesByCustomer(customerId, fetchStart, fetchEnd, admission)
+                .onItem().call(fetched -> materialize(customerId, fetchStart, min(fetchEnd, closedEnd), storedDays, fetched))
+                .onItem().transform(fetched -> {
+                    // Los días locales fuera del tramo consultado se combinan con la respuesta remota.
+                    List<DailyBalanceHistoryDto> result = new ArrayList<>(fetched);
+                    result.addAll(toHistory(stored.stream()
+                            .filter(snapshot -> snapshot.getDate().isBefore(fetchStart) || snapshot.getDate().isAfter(fetchEnd))
+                            .toList()));
+                    return result;
+                });
+    }
+
+    /**
+     * Persiste los días cerrados recién obtenidos que aún no estaban materializados.
+     * Un fallo de escritura se registra pero no afecta a la respuesta del reporte.
+     */
+    private Uni<Void> materialize(
+            String customerId,
+            LocalDate fromDay,
+            LocalDate toDay,
+            Set<LocalDate> storedDays,
+            List<DailyBalanceHistoryDto> fetched
+    ) {
+        if (fromDay.isAfter(toDay)) {
+            return Uni.createFrom().voidItem();
+        }
+
+        Map<LocalDate, List<DailyBalanceHistoryDto>> byDay = new TreeMap<>(fetched.stream()
+                .filter(dto -> dto.date() != null && !dto.date().isBefore(fromDay) && !dto.date().isAfter(toDay))
+                .collect(Collectors.groupingBy(DailyBalanceHistoryDto::date)));
+
+        Instant emptyDayExpiry = Instant.now().plus(emptyDayTtl);
+        List<DailyBalanceSnapshot> snapshots = new ArrayList<>();
+        for (LocalDate day = fromDay; !day.isAfter(toDay); day = day.plusDays(1)) {
+            if (!storedDays.contains(day)) {
+                // Los días sin filas también se materializan (snapshot vacío), pero caducan para volver a consultarse.
+                List<DailyBalanceHistoryDto> rows = byDay.getOrDefault(day, List.of());
+                snapshots.add(toSnapshot(customerId, day, rows, rows.isEmpty() ? emptyDayExpiry : null));
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        return snapshotRepository.persistOrUpdate(snapshots)
+                .onItem().invoke(() -> log.debug("STORE | {} días materializados para {}", snapshots.size(), customerId))
+                .onFailure().recoverWithItem(failure -> {
+                    log.warn("STORE | No se pudieron materializar los saldos de {}. Causa: {}", customerId, failure.getMessage());
+                    return null;
+                });
+    }
+
+    private DailyBalanceSnapshot toSnapshot(String customerId, LocalDate day, List<DailyBalanceHistoryDto> rows, Instant expiresAt) {
+        return DailyBalanceSnapshot.builder()
+                .id(DailyBalanceSnapshot.idOf(customerId, day))
+                .customerId(customerId)
+                .date(day)
+                .expiresAt(expiresAt)
+                .products(rows.stream()
+                        .map(dto -> DailyBalanceSnapshot.ProductBalance.builder()
+                                .productId(dto.productId())
+                                .accountType(dto.accountType())
+                                .productType(dto.productType())
+                                .balanceEOD(dto.balanceEOD())
+                                .amountUsedEOD(dto.amountUsedEOD())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private List<DailyBalanceHistoryDto> toHistory(List<DailyBalanceSnapshot> snapshots) {
+        List<DailyBalanceHistoryDto> history = new ArrayList<>();
+        for (DailyBalanceSnapshot snapshot : snapshots) {
+            if (snapshot.getProducts() == null) {
+                continue;
+            }
+            for (DailyBalanceSnapshot.ProductBalance product : snapshot.getProducts()) {
+                history.add(new DailyBalanceHistoryDto(
+                        product.getProductId(),
+                        product.getAccountType(),
+                        product.getProductType(),
+                        snapshot.getDate(),
+                        product.getBalanceEOD(),
+                        product.getAmountUsedEOD()
+                ));
+            }
+        }
+        return history;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,95 @@
+package com.bancario.reports.service.impl;
+
+import com.bancario.reports.dto.ReportJobRequest;
+import com.bancario.reports.dto.ReportJobResponse;
+import com.bancario.reports.enums.ReportJobStatus;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estado mutable de un job de reporte asíncrono. Lo escribe el hilo del pool que lo ejecuta
+ * y lo leen las consultas de estado, por lo que los campos son volatile.
+ */
+final class ReportJob {
+
+    private final String id;
+    private final ReportJobRequest request;
+    private final Instant submittedAt;
+
+    private final AtomicInteger completedSteps = new AtomicInteger();
+    private volatile int totalSteps;
+
+    private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant completedAt;
+    private volatile Instant expiresAt;
+    private volatile Object result;
+    private volatile String error;
+
+    ReportJob(String id, ReportJobRequest request, Instant submittedAt) {
+        this.id = id;
+        this.request = request;
+        this.submittedAt = submittedAt;
+    }
+
+    String id() {
+        return id;
+    }
+
+    ReportJobRequest request() {
+        return request;
+    }
+
+    void start(int steps) {
+        totalSteps = steps;
+        startedAt = Instant.now();
+        status = ReportJobStatus.RUNNING;
+    }
+
+    void stepCompleted() {
+        completedSteps.incrementAndGet();
+    }
+
+    void complete(Object value, Instant expiry) {
+        result = value;
+        finish(ReportJobStatus.COMPLETED, expiry);
+    }
+
+    void fail(String message, Instant expiry) {
+        error = message;
+        finish(ReportJobStatus.FAILED, expiry);
+    }
+
+    /**
+     * Un job sólo expira una vez terminado; los jobs en cola o en ejecución nunca se purgan.
+     */
+    boolean isExpired(Instant now) {
+        Instant expiry = expiresAt;
+        return expiry != null && !now.isBefore(expiry);
+    }
+
+    ReportJobResponse toResponse() {
+        return new ReportJobResponse(id, request.type(), status, progress(),
+                submittedAt, startedAt, completedAt, expiresAt, result, error);
+    }
+
+    private void finish(ReportJobStatus finalStatus, Instant expiry) {
+        completedAt = Instant.now();
+        expiresAt = expiry;
+        // El estado se publica al final para que un lector que vea COMPLETED/FAILED vea también el resto.
+        status = finalStatus;
+    }
+
+    private int progress() {
+        if (status == ReportJobStatus.COMPLETED) {
+            return 100;
+        }
+        int total = totalSteps;
+        if (total == 0) {
+            return 0;
+        }
+        // Mientras el job no termina, el progreso nunca llega a 100.
+        return Math.min(99, completedSteps.get() * 100 / total);
+    }
+}
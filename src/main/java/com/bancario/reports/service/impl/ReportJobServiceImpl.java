@@ -0,0 +1,171 @@
+package com.bancario.reports.service.impl;
+
+import com.bancario.reports.dto.ReportJobRequest;
+import com.bancario.reports.dto.ReportJobResponse;
+import com.bancario.reports.enums.ReportJobType;
+import com.bancario.reports.exception.ServiceUnavailableException;
+import com.bancario.reports.service.ReportJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Jobs de reporte asíncronos para los reportes pesados (comisiones y SPD).
+ * <p>
+ * Cada job se ejecuta en un pool de hilos propio y acotado (reports-service.jobs.pool-size hilos y
+ * reports-service.jobs.queue-capacity jobs en cola; si la cola está llena se responde 503). El hilo del job
+ * espera el cálculo como mucho reports-service.jobs.max-duration.ms, sin los @Timeout síncronos de
+ * ReportsServiceImpl, y los hilos de petición quedan libres. Los jobs terminados se conservan durante
+ * reports-service.jobs.result-ttl y después se purgan.
+ */
+@Slf4j
+@ApplicationScoped
+public class ReportJobServiceImpl implements ReportJobService {
+
+    // Se usa la implementación: los métodos compute* no pasan por el interceptor de Fault Tolerance.
+    @Inject
+    ReportsServiceImpl reportsService;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "reports-service.jobs.pool-size", defaultValue = "4")
+    int poolSize;
+
+    @ConfigProperty(name = "reports-service.jobs.queue-capacity", defaultValue = "100")
+    int queueCapacity;
+
+    @ConfigProperty(name = "reports-service.jobs.max-duration.ms", defaultValue = "300000")
+    long maxDurationMs;
+
+    @ConfigProperty(name = "reports-service.jobs.result-ttl", defaultValue = "30M")
+    Duration resultTtl;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // executor.* (hilos activos, jobs en cola, completados) en /q/metrics con name=report-jobs
+        executor = ExecutorServiceMetrics.monitor(registry, pool, "report-jobs");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ReportJobResponse submit(ReportJobRequest request) {
+        validate(request);
+
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), request, Instant.now());
+        jobs.put(job.id(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id());
+            log.warn("JOBS | Cola llena ({} jobs). Job {} rechazado.", queueCapacity, request.type());
+            throw new ServiceUnavailableException("La cola de reportes asíncronos está llena. Intente nuevamente más tarde.", e);
+        }
+
+        log.info("JOBS | Job {} encolado: {} [{} - {}]", job.id(), request.type(), request.startDate(), request.endDate());
+        return job.toResponse();
+    }
+
+    @Override
+    public Optional<ReportJobResponse> find(String jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null || job.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(job.toResponse());
+    }
+
+    /**
+     * Purga los jobs terminados cuyo resultado superó el TTL.
+     */
+    @Scheduled(every = "${reports-service.jobs.purge-interval:1m}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void purgeExpired() {
+        Instant now = Instant.now();
+        int before = jobs.size();
+        jobs.values().removeIf(job -> job.isExpired(now));
+        int purged = before - jobs.size();
+        if (purged > 0) {
+            log.debug("JOBS | {} jobs expirados purgados.", purged);
+        }
+    }
+
+    private void run(ReportJob job) {
+        ReportJobRequest request = job.request();
+        log.info("JOBS | Job {} iniciado en {}.", job.id(), Thread.currentThread().getName());
+        try {
+            Object result = execute(job).await().atMost(Duration.ofMillis(maxDurationMs));
+            job.complete(result, Instant.now().plus(resultTtl));
+            log.info("JOBS | Job {} ({}) completado.", job.id(), request.type());
+        } catch (Exception e) {
+            log.error("JOBS | Job {} ({}) fallido. Causa: {}", job.id(), request.type(), e.getMessage(), e);
+            job.fail("No se pudo generar el reporte: " + e.getMessage(), Instant.now().plus(resultTtl));
+        }
+    }
+
+    private Uni<?> execute(ReportJob job) {
+        ReportJobRequest request = job.request();
+        return switch (request.type()) {
+            case COMMISSIONS -> {
+                job.start(reportsService.partitionCount(request.startDate(), request.endDate(), request.partition()));
+                yield reportsService.computeCommissionsReport(
+                        request.startDate(), request.endDate(), request.partition(), job::stepCompleted);
+            }
+            case DAILY_AVERAGE_BALANCE -> {
+                job.start(1);
+                yield reportsService.computeDailyAverageBalanceReport(
+                                request.customerId(), request.startDate(), request.endDate())
+                        .onItem().invoke(job::stepCompleted);
+            }
+        };
+    }
+
+    private void validate(ReportJobRequest request) {
+        if (request == null || request.type() == null) {
+            throw new IllegalArgumentException("El tipo de reporte es obligatorio.");
+        }
+        if (request.startDate() == null || request.endDate() == null || request.startDate().isAfter(request.endDate())) {
+            throw new IllegalArgumentException("El rango de fechas es inválido.");
+        }
+        if (request.type() == ReportJobType.DAILY_AVERAGE_BALANCE
+                && (request.customerId() == null || request.customerId().isBlank())) {
+            throw new IllegalArgumentException("El ID de cliente es obligatorio.");
+        }
+    }
+}
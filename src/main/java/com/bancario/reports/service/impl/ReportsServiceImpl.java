@@ -1,64 +1,478 @@
 package com.bancario.reports.service.impl;
 
-import com.bancario.reports.client.AccountServiceRestClient;
-import com.bancario.reports.client.CustomerServiceRestClient;
-import com.bancario.reports.client.TransactionsServiceRestClient;
+import com.bancario.reports.aggregation.CommissionAccumulator;
+import com.bancario.reports.aggregation.DailyBalancePrefixIndex;
+import com.bancario.reports.aggregation.MoneyAccumulator;
+import com.bancario.reports.cache.BalanceProjection;
+import com.bancario.reports.cache.CachedResponse;
+import com.bancario.reports.cache.LastKnownGoodStore;
+import com.bancario.reports.cache.Served;
 import com.bancario.reports.dto.*;
+import com.bancario.reports.enums.LimiterAdmission;
+import com.bancario.reports.enums.PartitionGranularity;
 import com.bancario.reports.enums.ProductType;
+import com.bancario.reports.exception.ConcurrencyLimitExceededException;
 import com.bancario.reports.exception.ServiceUnavailableException;
+import com.bancario.reports.execution.ComputeOffloader;
+import com.bancario.reports.gateway.AccountServiceGateway;
+import com.bancario.reports.gateway.CustomerServiceGateway;
+import com.bancario.reports.gateway.TransactionsServiceGateway;
+import com.bancario.reports.metrics.ReportsMetrics;
+import com.bancario.reports.serialization.FieldSelection;
+import com.bancario.reports.service.CommissionRollupService;
+import com.bancario.reports.service.DailyBalanceHistoryService;
 import com.bancario.reports.service.ReportsService;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
+import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
 import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.Timeout;
-import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @ApplicationScoped
 public class ReportsServiceImpl implements ReportsService {
 
+    public static final String SPD_PREFIX_INDEX_CACHE = "spd-prefix-index";
+    public static final String BALANCES_CACHE = "balances";
+
+    // Nombre del Circuit Breaker de loadBalancesByCustomer; el lote y la revalidación SWR lo consultan para no llamar con el circuito abierto.
+    public static final String BALANCES_BREAKER = "balances";
+
+    private static final String QUICK_QUERY_UNAVAILABLE = "El servicio de reportes rápidos está temporalmente no disponible.";
+
+    // Los clientes REST se consumen a través de sus gateways (agrupación de llamadas concurrentes).
+    @Inject
+    AccountServiceGateway accountServiceGateway;
+
+    @Inject
+    TransactionsServiceGateway transactionsServiceGateway;
+
+    @Inject
+    CustomerServiceGateway customerServiceGateway;
+
+    @Inject
+    DailyBalanceHistoryService dailyBalanceHistoryService;
+
+    @Inject
+    CommissionRollupService commissionRollupService;
+
+    @Inject
+    ReportsMetrics metrics;
+
+    // Ejecuta las etapas de cálculo intensivo en el modo configurado por reporte (event loop, workers o hilos virtuales).
+    @Inject
+    ComputeOffloader computeOffloader;
+
+    @ConfigProperty(name = "reports-service.quick-query.ms")
+    long quickQueryMs;
+
+    @ConfigProperty(name = "reports-service.analytic-orchestration.ms")
+    long analyticOrchestrationMs;
+
+    // Si está activo, el reporte de comisiones combina rollups diarios y sólo consulta los días no vistos.
+    @ConfigProperty(name = "reports-service.commissions.rollup.enabled", defaultValue = "true")
+    boolean commissionsRollupEnabled;
+
+    // Si está activo, las comisiones se consumen en streaming NDJSON y se agregan en una sola pasada.
+    @ConfigProperty(name = "reports-service.commissions.streaming.enabled", defaultValue = "false")
+    boolean commissionsStreamingEnabled;
+
+    @ConfigProperty(name = "reports-service.retry.max-retries")
+    int maxRetries;
+
+    @ConfigProperty(name = "reports-service.retry.delay.ms")
+    long retryDelayMs;
+
+    // Reporte de comisiones particionado: particiones en vuelo, tiempo máximo y reintentos por partición.
+    @ConfigProperty(name = "reports-service.commissions.partition.concurrency", defaultValue = "4")
+    int commissionsPartitionConcurrency;
+
+    @ConfigProperty(name = "reports-service.commissions.partition.timeout.ms", defaultValue = "1500")
+    long commissionsPartitionTimeoutMs;
+
+    @ConfigProperty(name = "reports-service.commissions.partition.max-retries", defaultValue = "2")
+    int commissionsPartitionMaxRetries;
+
+    // Número máximo de particiones por reporte; un rango mayor se divide en ventanas más largas.
+    @ConfigProperty(name = "reports-service.commissions.partition.max-partitions", defaultValue = "31")
+    int commissionsMaxPartitions;
+
+    // Si está activo, cada página de movimientos pide al Transaction-Service sólo los elementos que necesita.
+    @ConfigProperty(name = "reports-service.movements.upstream-limit.enabled", defaultValue = "true")
+    boolean movementsUpstreamLimitEnabled;
+
+    // Si está activo, los campos de products pedidos con fields= se reenvían al Account-Service.
+    @ConfigProperty(name = "reports-service.fields.upstream.enabled", defaultValue = "false")
+    boolean fieldsUpstreamEnabled;
+
+    // Número máximo de clientes procesados en paralelo por el SPD masivo.
+    @ConfigProperty(name = "reports-service.bulk-spd.concurrency", defaultValue = "16")
+    int bulkSpdConcurrency;
+
+    // Caché de respuestas de saldos: fresca, obsoleta con revalidación y, hasta su expiración, obsoleta ante fallos.
+    @Inject
+    @CacheName(BALANCES_CACHE)
+    Cache balancesCache;
+
+    @ConfigProperty(name = "reports-service.balances.cache.enabled", defaultValue = "true")
+    boolean balancesCacheEnabled;
+
+    @ConfigProperty(name = "reports-service.balances.cache.fresh-for", defaultValue = "5S")
+    Duration balancesFreshFor;
+
+    @ConfigProperty(name = "reports-service.balances.cache.stale-while-revalidate", defaultValue = "60S")
+    Duration balancesStaleWhileRevalidate;
+
+    private final Set<String> balancesRefreshing = ConcurrentHashMap.newKeySet();
+
+    // Saldos por lote (/reports/balances/batch): tamaño máximo, concurrencia y lotes hacia el account-service.
+    @ConfigProperty(name = "reports-service.balances.batch.max-size", defaultValue = "500")
+    int balancesBatchMaxSize;
+
+    @ConfigProperty(name = "reports-service.balances.batch.concurrency", defaultValue = "16")
+    int balancesBatchConcurrency;
+
+    @ConfigProperty(name = "reports-service.balances.batch.upstream.enabled", defaultValue = "false")
+    boolean balancesBatchUpstreamEnabled;
+
+    @ConfigProperty(name = "reports-service.balances.batch.upstream.size", defaultValue = "100")
+    int balancesBatchUpstreamSize;
+
+    // Tiempo máximo del lote completo; los clientes sin respuesta a tiempo se sirven desde el last-known-good.
+    @ConfigProperty(name = "reports-service.balances.batch.timeout.ms", defaultValue = "3000")
+    long balancesBatchTimeoutMs;
+
+    @Inject
+    CircuitBreakerMaintenance circuitBreakers;
+
+    // Última respuesta correcta de saldos, resumen consolidado y SPD, servida por los fallbacks como obsoleta.
     @Inject
-    @RestClient
-    AccountServiceRestClient accountServiceRestClient;
+    LastKnownGoodStore lastKnownGood;
 
+    // Proyección de saldos mantenida por eventos; si el cliente está sincronizado, /reports/balances no consulta el account-service.
     @Inject
-    @RestClient
-    TransactionsServiceRestClient transactionsServiceRestClient;
+    BalanceProjection balanceProjection;
 
+    // Índices de sumas prefijas del SPD por cliente (TTL corto: el día en curso aún puede cambiar).
     @Inject
-    @RestClient
-    CustomerServiceRestClient customerServiceRestClient;
+    @CacheName(SPD_PREFIX_INDEX_CACHE)
+    Cache spdPrefixIndexCache;
 
+    /**
+     * Los aciertos de la proyección y de la caché SWR se sirven antes de entrar en el método protegido por
+     * Fault Tolerance, para que no cuenten como éxitos del Circuit Breaker ni consuman su Timeout.
+     */
     @Override
+    public Uni<Served<List<BalanceReportDTO>>> getBalancesByCustomer(String customerId) {
+        log.info("Starting report generation for customer with ID: {}", customerId);
+
+        List<BalanceReportDTO> cached = servableBalances(customerId);
+        if (cached != null) {
+            return Uni.createFrom().item(Served.fresh(cached));
+        }
+        return loadBalancesByCustomer(customerId);
+    }
+
+    /**
+     * Consulta los saldos al account-service bajo Timeout, Circuit Breaker y fallback (last-known-good).
+     * Se invoca sobre this: ArC intercepta las auto-invocaciones de métodos no privados.
+     */
     @Timeout
     @CircuitBreaker
+    @CircuitBreakerName(BALANCES_BREAKER)
     @Fallback(fallbackMethod = "fallbackBalancesByCustomer")
-    public Uni<List<BalanceReportDTO>> getBalancesByCustomer(String customerId) {
-        log.info("Starting report generation for customer with ID: {}", customerId);
+    public Uni<Served<List<BalanceReportDTO>>> loadBalancesByCustomer(String customerId) {
+        return metrics.timeReport("balances", () -> fetchBalances(customerId, LimiterAdmission.REJECT))
+                .onItem().transform(Served::fresh);
+    }
+
+    /**
+     * Saldos de muchos clientes en una sola llamada.
+     * <p>
+     * Los clientes con saldos en caché (frescos o dentro de la ventana stale-while-revalidate) no se consultan.
+     * El resto se pide al account-service con concurrencia acotada (reports-service.balances.batch.concurrency)
+     * o, si reports-service.balances.batch.upstream.enabled está activo, en lotes de
+     * reports-service.balances.batch.upstream.size clientes por llamada. No pasa por el proxy de Fault Tolerance:
+     * cada llamada tiene su propio tiempo máximo, el lote completo tiene reports-service.balances.batch.timeout.ms
+     * y, con el Circuit Breaker de saldos abierto, no se consulta el account-service. Los clientes que fallan o no
+     * responden a tiempo se sirven desde su last-known-good marcados como obsoletos; los que no tienen datos se
+     * listan en missingCustomerIds.
+     *
+     * @param customerIds Los IDs de los clientes.
+     * @return Uni que emite los saldos por cliente, en el orden recibido, y los clientes sin datos.
+     * @throws IllegalArgumentException Si la lista está vacía, supera el máximo o contiene IDs vacíos.
+     */
+    @Override
+    public Uni<BatchBalancesResponse> getBalancesByCustomers(List<String> customerIds) {
+        if (customerIds == null || customerIds.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicarse al menos un ID de cliente.");
+        }
+        if (customerIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("Los IDs de cliente no pueden ser vacíos.");
+        }
+        List<String> ids = customerIds.stream().distinct().collect(Collectors.toList());
+        if (ids.size() > balancesBatchMaxSize) {
+            throw new IllegalArgumentException("Se admiten como máximo " + balancesBatchMaxSize + " clientes por lote.");
+        }
 
-        return accountServiceRestClient.getAccountsByCustomer(customerId)
-                .onItem().transform(accounts -> {
-                    log.info("Found {} accounts for customer ID: {}", accounts.size(), customerId);
+        Map<String, CustomerBalances> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            List<BalanceReportDTO> cached = servableBalances(id);
+            if (cached != null) {
+                found.put(id, CustomerBalances.current(cached));
+            } else {
+                missing.add(id);
+            }
+        }
+        boolean breakerOpen = !missing.isEmpty() && circuitBreakers.currentState(BALANCES_BREAKER) == CircuitBreakerState.OPEN;
+        log.info("Batch balances for {} customers: {} from cache, {} from account-service (upstream batch: {}, breaker open: {}).",
+                ids.size(), found.size(), missing.size(), balancesBatchUpstreamEnabled, breakerOpen);
+
+        Uni<Map<String, CustomerBalances>> fetched;
+        if (missing.isEmpty()) {
+            fetched = Uni.createFrom().item(Map.of());
+        } else if (breakerOpen) {
+            fetched = Uni.createFrom().item(() -> lastKnownGoodBalances(missing,
+                    new CircuitBreakerOpenException("El Circuit Breaker de saldos está abierto.")));
+        } else {
+            Multi<Map<String, CustomerBalances>> results = balancesBatchUpstreamEnabled
+                    ? fetchBalancesInBatches(missing)
+                    : fetchBalancesConcurrently(missing);
+            // Al agotarse el tiempo del lote se cancelan las llamadas en curso y se completa con lo recibido.
+            fetched = results
+                    .select().first(Duration.ofMillis(balancesBatchTimeoutMs))
+                    .collect().<Map<String, CustomerBalances>>in(HashMap::new, Map::putAll)
+                    .onItem().transform(received -> {
+                        List<String> unanswered = missing.stream().filter(id -> !received.containsKey(id)).toList();
+                        if (!unanswered.isEmpty()) {
+                            received.putAll(lastKnownGoodBalances(unanswered,
+                                    new TimeoutException("Tiempo máximo del lote agotado (" + balancesBatchTimeoutMs + " ms).")));
+                        }
+                        return received;
+                    });
+        }
 
-                    return accounts.stream()
-                            .map(this::mapToBalanceReportDTO)
-                            .collect(Collectors.toList());
+        return metrics.timeReport("balances-batch", () -> fetched)
+                .onItem().transform(fetchedBalances -> {
+                    Map<String, CustomerBalances> result = new LinkedHashMap<>();
+                    List<String> withoutData = new ArrayList<>();
+                    for (String id : ids) {
+                        CustomerBalances balances = found.containsKey(id) ? found.get(id) : fetchedBalances.get(id);
+                        if (balances != null) {
+                            result.put(id, balances);
+                        } else {
+                            withoutData.add(id);
+                        }
+                    }
+                    return new BatchBalancesResponse(result, withoutData);
                 });
     }
 
+    private Multi<Map<String, CustomerBalances>> fetchBalancesConcurrently(List<String> customerIds) {
+        return Multi.createFrom().iterable(customerIds)
+                .onItem().transformToUni(customerId -> fetchBalances(customerId, LimiterAdmission.WAIT)
+                        .ifNoItem().after(Duration.ofMillis(quickQueryMs)).fail()
+                        .onItem().transform(balances -> Map.of(customerId, CustomerBalances.current(balances)))
+                        .onFailure().recoverWithItem(failure -> lastKnownGoodBalances(List.of(customerId), failure)))
+                .merge(balancesBatchConcurrency);
+    }
+
+    private Multi<Map<String, CustomerBalances>> fetchBalancesInBatches(List<String> customerIds) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < customerIds.size(); from += balancesBatchUpstreamSize) {
+            chunks.add(customerIds.subList(from, Math.min(from + balancesBatchUpstreamSize, customerIds.size())));
+        }
+        return Multi.createFrom().iterable(chunks)
+                .onItem().transformToUni(chunk -> Uni.createFrom().deferred(() -> {
+                    long syncStartedAt = System.nanoTime();
+                    chunk.forEach(balanceProjection::startSync);
+                    return accountServiceGateway.getAccountsByCustomers(chunk)
+                            .ifNoItem().after(Duration.ofMillis(quickQueryMs)).fail()
+                            .onItem().transformToUni(accounts -> computeOffloader.compute("balances-batch", "map",
+                                    () -> groupBalancesByCustomer(chunk, accounts)))
+                            .onItem().transform(balancesByCustomer -> {
+                                Map<String, CustomerBalances> current = new HashMap<>();
+                                balancesByCustomer.forEach((customerId, balances) -> {
+                                    rememberBalances(customerId, balances, syncStartedAt);
+                                    current.put(customerId, CustomerBalances.current(balances));
+                                });
+                                return current;
+                            })
+                            .onTermination().invoke((balancesByCustomer, failure, cancelled) -> {
+                                if (failure != null || cancelled) {
+                                    chunk.forEach(customerId -> balanceProjection.abortSync(customerId, syncStartedAt));
+                                }
+                            })
+                            .onFailure().recoverWithItem(failure -> lastKnownGoodBalances(chunk, failure));
+                }))
+                .merge(balancesBatchConcurrency);
+    }
+
+    /**
+     * Agrupa la respuesta de un lote por cliente; los clientes del lote sin cuentas quedan con una lista vacía.
+     */
+    private Map<String, List<BalanceReportDTO>> groupBalancesByCustomer(List<String> customerIds, List<AccountResponse> accounts) {
+        Map<String, List<BalanceReportDTO>> balancesByCustomer = new HashMap<>();
+        customerIds.forEach(customerId -> balancesByCustomer.put(customerId, new ArrayList<>()));
+        for (AccountResponse account : accounts) {
+            List<BalanceReportDTO> balances = balancesByCustomer.get(account.customerId());
+            if (balances != null) {
+                balances.add(mapToBalanceReportDTO(account));
+            }
+        }
+        return balancesByCustomer;
+    }
+
+    /**
+     * Saldos last-known-good, marcados como obsoletos, de los clientes cuya consulta falló; los que no tienen se omiten.
+     */
+    private Map<String, CustomerBalances> lastKnownGoodBalances(List<String> customerIds, Throwable failure) {
+        Map<String, CustomerBalances> balancesByCustomer = new HashMap<>();
+        for (String customerId : customerIds) {
+            lastKnownGood.<List<BalanceReportDTO>>lookup("balances", customerId)
+                    .ifPresent(snapshot -> balancesByCustomer.put(customerId,
+                            CustomerBalances.lastKnownGood(snapshot.value(), snapshot.age())));
+        }
+        log.warn("Batch balances: fallo para {} clientes ({} servidos desde last-known-good). Causa: {}",
+                customerIds.size(), balancesByCustomer.size(), failure.getMessage());
+        return balancesByCustomer;
+    }
+
+    /**
+     * Si el cliente está sincronizado en la proyección de eventos, sus saldos se sirven desde ella.
+     * Si no, stale-while-revalidate: devuelve los saldos en caché si están frescos o, si están obsoletos dentro
+     * de la ventana de revalidación, los devuelve y lanza el refresco en segundo plano.
+     * Devuelve null si hay que consultarlos al account-service.
+     */
+    private List<BalanceReportDTO> servableBalances(String customerId) {
+        Optional<List<BalanceReportDTO>> projected = balanceProjection.balances(customerId);
+        if (projected.isPresent()) {
+            metrics.responseCache("balances", "projection");
+            return projected.get();
+        }
+        CachedResponse<List<BalanceReportDTO>> cached = cachedBalances(customerId);
+        if (cached != null) {
+            Duration age = cached.age();
+            if (age.compareTo(balancesFreshFor) <= 0) {
+                metrics.responseCache("balances", "fresh");
+                return cached.value();
+            }
+            if (age.compareTo(balancesFreshFor.plus(balancesStaleWhileRevalidate)) <= 0) {
+                metrics.responseCache("balances", "stale");
+                refreshBalancesInBackground(customerId);
+                return cached.value();
+            }
+        }
+        metrics.responseCache("balances", "miss");
+        return null;
+    }
+
+    /**
+     * Consulta los saldos al account-service y los guarda en la caché de respuestas.
+     * Los fan-out de saldos por lote usan {@link LimiterAdmission#WAIT} para esperar un permiso del limitador.
+     */
+    private Uni<List<BalanceReportDTO>> fetchBalances(String customerId, LimiterAdmission admission) {
+        return Uni.createFrom().deferred(() -> {
+            long syncStartedAt = balanceProjection.startSync(customerId);
+            return accountServiceGateway.getAccountsByCustomer(customerId, admission)
+                    .onItem().transformToUni(accounts -> {
+                        log.info("Found {} accounts for customer ID: {}", accounts.size(), customerId);
+
+                        return computeOffloader.compute("balances", "map", () -> accounts.stream()
+                                .map(this::mapToBalanceReportDTO)
+                                .collect(Collectors.toList()));
+                    })
+                    .onItem().invoke(balances -> rememberBalances(customerId, balances, syncStartedAt))
+                    .onTermination().invoke((balances, failure, cancelled) -> {
+                        if (failure != null || cancelled) {
+                            balanceProjection.abortSync(customerId, syncStartedAt);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Guarda una respuesta correcta del account-service en la caché SWR, el last-known-good y la proyección.
+     */
+    private void rememberBalances(String customerId, List<BalanceReportDTO> balances, long syncStartedAt) {
+        storeBalances(customerId, balances);
+        lastKnownGood.remember("balances", customerId, balances);
+        balanceProjection.seed(customerId, balances, syncStartedAt);
+    }
+
+    /**
+     * Refresca en segundo plano una entrada obsoleta; como mucho un refresco en curso por cliente.
+     * Pasa por el Circuit Breaker de saldos (loadBalancesByCustomer) y no se lanza si está abierto.
+     * Un fallo sólo se registra: la entrada obsoleta sigue disponible hasta que expira.
+     */
+    private void refreshBalancesInBackground(String customerId) {
+        if (circuitBreakers.currentState(BALANCES_BREAKER) == CircuitBreakerState.OPEN) {
+            log.debug("CACHE | Circuit Breaker de saldos abierto: no se revalida {}.", customerId);
+            return;
+        }
+        if (!balancesRefreshing.add(customerId)) {
+            return;
+        }
+        loadBalancesByCustomer(customerId)
+                .onTermination().invoke(() -> balancesRefreshing.remove(customerId))
+                .subscribe().with(
+                        served -> log.debug(served.stale()
+                                ? "CACHE | Saldos de {} no revalidados: el account-service falló (se conserva la entrada)."
+                                : "CACHE | Saldos de {} revalidados en segundo plano.", customerId),
+                        failure -> log.warn("CACHE | No se pudieron revalidar los saldos de {}. Causa: {}",
+                                customerId, failure.getMessage()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CachedResponse<List<BalanceReportDTO>> cachedBalances(String customerId) {
+        if (!balancesCacheEnabled) {
+            return null;
+        }
+        CompletableFuture<Object> future = balancesCache.as(CaffeineCache.class).getIfPresent(customerId);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return (CachedResponse<List<BalanceReportDTO>>) future.getNow(null);
+    }
+
+    private void storeBalances(String customerId, List<BalanceReportDTO> balances) {
+        if (balancesCacheEnabled) {
+            balancesCache.as(CaffeineCache.class).put(customerId, CompletableFuture.completedFuture(CachedResponse.of(balances)));
+        }
+    }
+
     @Override
     @Timeout
     @CircuitBreaker
@@ -67,10 +481,161 @@ public class ReportsServiceImpl implements ReportsService {
         log.info("Starting transaction report for account ID: {}", accountId);
 
         // Se llama al cliente REST para obtener los movimientos.
-        return transactionsServiceRestClient.getTransactionsByAccountId(accountId)
+        return metrics.timeReport("movements", () -> transactionsServiceGateway.getTransactionsByAccountId(accountId)
                 .onItem().invoke(transactions -> {
                     log.info("Found {} transactions for account ID: {}", transactions.size(), accountId);
-                });
+                }));
+    }
+
+    /**
+     * Página de movimientos (keyset, del más reciente al más antiguo) con filtro de fechas.
+     * <p>
+     * Comparte la configuración de Fault Tolerance de getTransactionsByAccountId. El rango de fechas se envía
+     * al Transaction-Service (acotado por el cursor) y, si reports-service.movements.upstream-limit.enabled está
+     * activo, también el número de movimientos necesario: limit + 1 en la primera página y dayOffset + limit + 1
+     * en las siguientes, de modo que recorrer N páginas no transfiere O(N²) movimientos. Los filtros se aplican
+     * de nuevo aquí, por lo que el resultado es correcto aunque el Transaction-Service los ignore.
+     */
+    @Override
+    @Timeout
+    @CircuitBreaker
+    @Fallback(fallbackMethod = "fallbackTransactionsByAccountId")
+    public Uni<TransactionPage> getTransactionsByAccountId(
+            String accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MovementCursor cursor,
+            int limit
+    ) {
+        log.info("Starting paged transaction report for account ID: {} [{} - {}], limit {}", accountId, startDate, endDate, limit);
+
+        LocalDate upstreamEndDate = upstreamEndDate(endDate, cursor);
+        Integer upstreamLimit = movementsUpstreamLimitEnabled ? upstreamLimit(cursor, limit) : null;
+
+        return metrics.timeReport("movements-page", () -> transactionsServiceGateway
+                .getTransactionsByAccountId(accountId, startDate, upstreamEndDate, upstreamLimit)
+                .onItem().transform(transactions -> paginate(transactions, startDate, endDate, cursor, limit)));
+    }
+
+    /**
+     * Movimientos a pedir al Transaction-Service: los ya entregados del día del cursor (que vuelven a llegar
+     * porque la fecha de fin se acota a ese día) más limit + 1; null si el cursor no conoce ese número.
+     */
+    private Integer upstreamLimit(MovementCursor cursor, int limit) {
+        if (cursor == null) {
+            return limit + 1;
+        }
+        return cursor.dayOffset() == null ? null : cursor.dayOffset() + limit + 1;
+    }
+
+    /**
+     * Filtra por fechas, ordena del más reciente al más antiguo, descarta lo ya entregado (cursor, incluidos
+     * los tieOffset movimientos con su misma clave) y corta la página; se toma un elemento extra para saber si
+     * existe una página siguiente.
+     */
+    private TransactionPage paginate(
+            List<TransactionResponse> transactions,
+            LocalDate startDate,
+            LocalDate endDate,
+            MovementCursor cursor,
+            int limit
+    ) {
+        List<TransactionResponse> sorted = transactions.stream()
+                .filter(transaction -> isWithinRange(transaction, startDate, endDate))
+                .sorted(Comparator.comparing(MovementCursor::of, MovementCursor.NEWEST_FIRST))
+                .collect(Collectors.toList());
+
+        List<TransactionResponse> page = new ArrayList<>(limit + 1);
+        int tiesSkipped = 0;
+        for (TransactionResponse transaction : sorted) {
+            if (cursor != null) {
+                int position = MovementCursor.NEWEST_FIRST.compare(MovementCursor.of(transaction), cursor);
+                if (position < 0 || (position == 0 && tiesSkipped++ < cursor.tieOffset())) {
+                    continue;
+                }
+            }
+            page.add(transaction);
+            if (page.size() > limit) {
+                break;
+            }
+        }
+
+        if (page.size() <= limit) {
+            return new TransactionPage(page, null);
+        }
+        List<TransactionResponse> items = page.subList(0, limit);
+        return new TransactionPage(items, MovementCursor.next(items, cursor).encode());
+    }
+
+    /**
+     * La página siguiente nunca contiene movimientos posteriores al último entregado,
+     * por lo que el cursor acota la fecha de fin enviada al Transaction-Service.
+     */
+    private LocalDate upstreamEndDate(LocalDate endDate, MovementCursor cursor) {
+        if (cursor == null || cursor.transactionDate() == null) {
+            return endDate;
+        }
+        LocalDate cursorDate = cursor.transactionDate().toLocalDate();
+        return endDate == null || cursorDate.isBefore(endDate) ? cursorDate : endDate;
+    }
+
+    private boolean isWithinRange(TransactionResponse transaction, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null && endDate == null) {
+            return true;
+        }
+        if (transaction.transactionDate() == null) {
+            return false;
+        }
+        LocalDate date = transaction.transactionDate().toLocalDate();
+        return (startDate == null || !date.isBefore(startDate)) && (endDate == null || !date.isAfter(endDate));
+    }
+
+    /**
+     * Variante en streaming de getTransactionsByAccountId.
+     * <p>
+     * Las anotaciones de Fault Tolerance no aplican a Multi, por lo que la protección es propia del stream:
+     * si el Transaction-Service no emite el primer movimiento (ni completa) durante reports-service.quick-query.ms,
+     * el stream falla con ServiceUnavailableException. Una vez iniciado no hay tiempo máximo entre elementos: con
+     * backpressure, un cliente HTTP lento deja de pedir elementos y eso no debe abortar el stream.
+     * El consumo respeta la demanda del cliente HTTP, por lo que la memoria se mantiene plana.
+     *
+     * @param accountId El ID del producto bancario.
+     * @return Multi que emite los movimientos uno a uno.
+     */
+    @Override
+    public Multi<TransactionResponse> streamTransactionsByAccountId(String accountId) {
+        log.info("Starting streamed transaction report for account ID: {}", accountId);
+
+        return failIfNoFirstItem(transactionsServiceGateway.streamTransactionsByAccountId(accountId),
+                        Duration.ofMillis(quickQueryMs),
+                        () -> new ServiceUnavailableException("El Transaction Service no emitió movimientos dentro del tiempo de espera."))
+                .onFailure().invoke(failure ->
+                        log.error("Fallo en el stream de movimientos para la cuenta {}. Causa: {}", accountId, failure.getMessage()))
+                .onCompletion().invoke(() ->
+                        log.info("Streamed transaction report completed for account ID: {}", accountId));
+    }
+
+    /**
+     * Falla el stream si no llega el primer elemento (o la finalización) dentro de timeout; a diferencia de
+     * Multi.ifNoItem(), no vigila el tiempo entre elementos posteriores.
+     * Los elementos se envuelven en Optional para marcar el fin del stream: el temporizador sólo se cancela
+     * al cancelar el stream combinado, que termina al recibir la marca.
+     */
+    private static <T> Multi<T> failIfNoFirstItem(Multi<T> items, Duration timeout, Supplier<Throwable> failure) {
+        return Multi.createFrom().deferred(() -> {
+            AtomicBoolean started = new AtomicBoolean();
+            Multi<Optional<T>> elements = Multi.createBy().concatenating().streams(
+                    items.onItem().invoke(() -> started.set(true)).onItem().transform(Optional::of),
+                    Multi.createFrom().item(Optional.<T>empty()));
+            Multi<Optional<T>> deadline = Uni.createFrom().voidItem()
+                    .onItem().delayIt().by(timeout)
+                    .onItem().transformToMulti(ignored -> started.get()
+                            ? Multi.createFrom().<Optional<T>>nothing()
+                            : Multi.createFrom().<Optional<T>>failure(failure));
+            return Multi.createBy().merging().streams(elements, deadline)
+                    .select().first(Optional::isPresent)
+                    .onItem().transform(Optional::get);
+        });
     }
 
     @Override
@@ -78,23 +643,170 @@ public class ReportsServiceImpl implements ReportsService {
     @CircuitBreaker
     @Fallback(fallbackMethod = "fallbackCommissionsReport")
     public Uni<List<CommissionReportItem>> generateCommissionsReport(LocalDate startDate, LocalDate endDate) {
+        return computeCommissionsReport(startDate, endDate);
+    }
+
+    /**
+     * Cálculo del reporte de comisiones sin el interceptor de Fault Tolerance.
+     * Lo usan generateCommissionsReport y los jobs asíncronos (ReportJobServiceImpl), que aplican su propio tiempo máximo.
+     */
+    public Uni<List<CommissionReportItem>> computeCommissionsReport(LocalDate startDate, LocalDate endDate) {
 
         log.info("SERVICE | Iniciando generación de reporte para rango: {} a {}", startDate, endDate);
 
         // 1. Orquestación: Consumir el Transaction-Service para obtener los datos detallados
-        return transactionsServiceRestClient.getCommissionsReportData(startDate, endDate)
+        // 2. Lógica de negocio: Aplicar la agregación (Manejo de Responsabilidad Única)
+        Uni<List<CommissionReportItem>> report;
+        if (commissionsRollupEnabled) {
+            report = commissionRollupService.getCommissionsReport(startDate, endDate);
+        } else if (commissionsStreamingEnabled) {
+            report = streamAndAggregateCommissions(startDate, endDate);
+        } else {
+            report = transactionsServiceGateway.getCommissionsReportData(startDate, endDate)
+                    .onItem().transformToUni(commissions ->
+                            computeOffloader.compute("commissions", "aggregate", () -> aggregateCommissions(commissions)));
+        }
 
-                // 2. Lógica de negocio: Aplicar la agregación (Manejo de Responsabilidad Única)
-                .onItem().transform(this::aggregateCommissions)
+        return metrics.timeReport("commissions", () -> report)
 
                 .onFailure().invoke(e -> {
                     log.error("SERVICE | Fallo al obtener o agregar datos de comisiones: {}", e.getMessage(), e);
                 })
-                .onFailure().transform(e ->
+                // Los rechazos del limitador de concurrencia se propagan tal cual (skipOn del Circuit Breaker).
+                .onFailure(e -> !(e instanceof ConcurrencyLimitExceededException)).transform(e ->
                         new RuntimeException("Error en la fuente de datos (Transaction Service).", e)
                 );
     }
 
+    /**
+     * Genera el reporte de comisiones por particiones del rango consultadas en paralelo.
+     * <p>
+     * Cada partición tiene su propio tiempo máximo (reports-service.commissions.partition.timeout.ms); su resultado
+     * se agrega a un {@link CommissionAccumulator} parcial y los parciales se combinan al terminar. Como mucho
+     * reports-service.commissions.partition.concurrency particiones están en vuelo a la vez y el rango se divide
+     * en reports-service.commissions.partition.max-partitions particiones como máximo.
+     * Su Timeout y Circuit Breaker se configuran aparte de generateCommissionsReport (reports-service.partitioned-report.ms).
+     */
+    @Override
+    @Timeout
+    @CircuitBreaker
+    @Fallback(fallbackMethod = "fallbackPartitionedCommissionsReport")
+    public Uni<List<CommissionReportItem>> generatePartitionedCommissionsReport(
+            LocalDate startDate,
+            LocalDate endDate,
+            PartitionGranularity granularity
+    ) {
+        return computeCommissionsReport(startDate, endDate, granularity, () -> { });
+    }
+
+    /**
+     * Cálculo del reporte particionado sin el interceptor de Fault Tolerance.
+     *
+     * @param onPartitionCompleted Se invoca al completarse cada partición (con NONE, al completarse el reporte);
+     *                             los jobs asíncronos lo usan para informar el progreso.
+     */
+    public Uni<List<CommissionReportItem>> computeCommissionsReport(
+            LocalDate startDate,
+            LocalDate endDate,
+            PartitionGranularity granularity,
+            Runnable onPartitionCompleted
+    ) {
+        if (granularity == null || granularity == PartitionGranularity.NONE) {
+            return computeCommissionsReport(startDate, endDate)
+                    .onItem().invoke(onPartitionCompleted);
+        }
+
+        List<DateWindow> partitions = partitionRange(startDate, endDate, granularity);
+        log.info("SERVICE | Iniciando reporte particionado ({}) para rango: {} a {}. {} particiones.",
+                granularity, startDate, endDate, partitions.size());
+
+        return metrics.timeReport("commissions-partitioned", () -> Multi.createFrom().iterable(partitions)
+                        .onItem().transformToUni(partition -> fetchCommissionPartition(partition)
+                                .onItem().invoke(onPartitionCompleted))
+                        .merge(commissionsPartitionConcurrency)
+                        .collect().asList()
+                        .onItem().transformToUni(partials -> computeOffloader.compute("commissions", "merge", () -> {
+                            CommissionAccumulator report = new CommissionAccumulator();
+                            partials.forEach(report::merge);
+                            return report.toItems();
+                        })))
+                .onFailure().invoke(e ->
+                        log.error("SERVICE | Fallo en el reporte particionado de comisiones: {}", e.getMessage(), e))
+                .onFailure(e -> !(e instanceof ConcurrencyLimitExceededException)).transform(e ->
+                        new RuntimeException("Error en la fuente de datos (Transaction Service).", e));
+    }
+
+    /**
+     * Número de particiones (pasos de progreso) en que se divide el rango; 1 si no se particiona.
+     */
+    public int partitionCount(LocalDate startDate, LocalDate endDate, PartitionGranularity granularity) {
+        if (granularity == null || granularity == PartitionGranularity.NONE) {
+            return 1;
+        }
+        return partitionRange(startDate, endDate, granularity).size();
+    }
+
+    /**
+     * Obtiene y agrega una partición dentro de su tiempo máximo.
+     * Sólo hay un nivel de reintentos por llamada: la consulta completa ya se reintenta en el gateway (UpstreamRetry),
+     * así que únicamente la variante en streaming, que el gateway no reintenta, se reintenta aquí.
+     */
+    private Uni<CommissionAccumulator> fetchCommissionPartition(DateWindow partition) {
+        if (commissionsStreamingEnabled) {
+            return computeOffloader.fold("commissions",
+                            transactionsServiceGateway.streamCommissionsReportData(partition.startDate(), partition.endDate()),
+                            CommissionAccumulator::new, CommissionAccumulator::add)
+                    .ifNoItem().after(Duration.ofMillis(commissionsPartitionTimeoutMs)).fail()
+                    .onFailure().invoke(e -> log.warn("SERVICE | Partición [{} - {}] fallida, se reintentará. Causa: {}",
+                            partition.startDate(), partition.endDate(), e.getMessage()))
+                    .onFailure().retry().withBackOff(Duration.ofMillis(retryDelayMs)).atMost(commissionsPartitionMaxRetries);
+        }
+        return transactionsServiceGateway.getCommissionsReportData(partition.startDate(), partition.endDate())
+                .onItem().transformToUni(commissions -> computeOffloader.compute("commissions", "aggregate-partition", () -> {
+                    CommissionAccumulator accumulator = new CommissionAccumulator();
+                    commissions.forEach(accumulator::add);
+                    return accumulator;
+                }))
+                .ifNoItem().after(Duration.ofMillis(commissionsPartitionTimeoutMs)).fail()
+                .onFailure().invoke(e -> log.warn("SERVICE | Partición [{} - {}] fallida. Causa: {}",
+                        partition.startDate(), partition.endDate(), e.getMessage()));
+    }
+
+    /**
+     * Divide [startDate, endDate] en ventanas consecutivas de 1 día (DAY) o 7 días (WEEK). Si el rango produciría más
+     * de reports-service.commissions.partition.max-partitions ventanas, cada ventana se alarga lo necesario.
+     */
+    private List<DateWindow> partitionRange(LocalDate startDate, LocalDate endDate, PartitionGranularity granularity) {
+        long rangeDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        int granularityDays = granularity == PartitionGranularity.WEEK ? 7 : 1;
+        int days = (int) Math.max(granularityDays, (rangeDays + commissionsMaxPartitions - 1) / commissionsMaxPartitions);
+        if (days > granularityDays) {
+            log.debug("SERVICE | Rango de {} días: particiones {} ampliadas a {} días.", rangeDays, granularity, days);
+        }
+        List<DateWindow> partitions = new ArrayList<>();
+        for (LocalDate from = startDate; !from.isAfter(endDate); from = from.plusDays(days)) {
+            LocalDate to = from.plusDays(days - 1);
+            partitions.add(new DateWindow(from, to.isAfter(endDate) ? endDate : to));
+        }
+        return partitions;
+    }
+
+    /**
+     * Consume las comisiones en streaming y las pliega en un {@link CommissionAccumulator}
+     * a medida que se parsean (en el modo de cálculo de "commissions"): la memoria es O(número de productos).
+     * El reintento re-suscribe el stream completo con un acumulador nuevo, por lo que no duplica comisiones.
+     */
+    private Uni<List<CommissionReportItem>> streamAndAggregateCommissions(LocalDate startDate, LocalDate endDate) {
+        return computeOffloader.fold("commissions", transactionsServiceGateway.streamCommissionsReportData(startDate, endDate),
+                        CommissionAccumulator::new, CommissionAccumulator::add)
+                .onFailure().retry().withBackOff(Duration.ofMillis(retryDelayMs)).atMost(maxRetries)
+                .onItem().transform(accumulator -> {
+                    List<CommissionReportItem> items = accumulator.toItems();
+                    log.debug("SERVICE | {} comisiones agregadas en streaming en {} productos.", accumulator.count(), items.size());
+                    return items;
+                });
+    }
+
     /**
      * Genera el reporte del Saldo Promedio Diario (SPD) para un cliente de forma reactiva.
      * * Este método orquesta el proceso: realiza la validación inicial, delega la obtención del
@@ -111,7 +823,24 @@ public class ReportsServiceImpl implements ReportsService {
     @Timeout
     @CircuitBreaker
     @Fallback(fallbackMethod = "fallbackDailyAverageBalanceReport")
-    public Uni<DailyAverageBalanceReportDto> generateDailyAverageBalanceReport(
+    public Uni<Served<DailyAverageBalanceReportDto>> generateDailyAverageBalanceReport(
+            String customerId,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        return computeDailyAverageBalanceReport(customerId, startDate, endDate)
+                .onItem().invoke(report ->
+                        lastKnownGood.remember("daily-average-balance", List.of(customerId, startDate, endDate), report))
+                .onItem().transform(Served::fresh);
+    }
+
+    /**
+     * Cálculo del SPD sin el interceptor de Fault Tolerance.
+     * Lo usan generateDailyAverageBalanceReport y los jobs asíncronos (ReportJobServiceImpl).
+     *
+     * @throws IllegalArgumentException Si el ID del cliente o el rango de fechas es inválido.
+     */
+    public Uni<DailyAverageBalanceReportDto> computeDailyAverageBalanceReport(
             String customerId,
             LocalDate startDate,
             LocalDate endDate
@@ -122,8 +851,16 @@ public class ReportsServiceImpl implements ReportsService {
         log.info("SPD Cálculo iniciado para customerId: {}, rango: [{} - {}]",
                 customerId, startDate, endDate);
 
-        // 2. Orquestación: Obtener el historial del account-service
-        return accountServiceRestClient.getDailyBalancesByCustomer(customerId, startDate, endDate)
+        // Si ya existe un índice de sumas prefijas que cubre el rango, el SPD se resuelve en O(1).
+        DailyBalancePrefixIndex cachedIndex = cachedPrefixIndex(customerId);
+        if (cachedIndex != null && cachedIndex.covers(startDate, endDate)) {
+            log.debug("SPD resuelto desde el índice de sumas prefijas de {} [{} - {}]",
+                    customerId, cachedIndex.firstDay(), cachedIndex.lastDay());
+            return Uni.createFrom().item(cachedIndex.average(startDate, endDate));
+        }
+
+        // 2. Orquestación: Obtener el historial (store materializado + account-service para días faltantes)
+        return metrics.timeReport("daily-average-balance", () -> dailyBalanceHistoryService.getDailyBalances(customerId, startDate, endDate)
 
                 // 3. Manejo de Fallos en el Cliente REST
                 .onFailure().invoke(failure -> {
@@ -133,9 +870,120 @@ public class ReportsServiceImpl implements ReportsService {
                 })
 
                 // 4. Ejecución de la Lógica de Negocio (Cálculo del SPD)
-                .onItem().transform(historyList ->
-                        calculateDailyAverage(customerId, startDate, endDate, historyList)
-                );
+                .onItem().transformToUni(historyList -> computeOffloader.compute("daily-average-balance", "calculate",
+                        () -> calculateDailyAverage(customerId, startDate, endDate, historyList))
+                ));
+    }
+
+    /**
+     * Calcula el SPD de un cliente para varias ventanas cargando el historial una sola vez.
+     * <p>
+     * Se obtiene el historial del rango mínimo que cubre todas las ventanas, se construye
+     * un {@link DailyBalancePrefixIndex} (O(n)) y cada ventana se resuelve en O(1).
+     * El índice queda en caché para las consultas siguientes del mismo cliente.
+     *
+     * @param customerId El ID del cliente a consultar.
+     * @param windows Las ventanas a calcular.
+     * @return Uni que emite un reporte por ventana, en el mismo orden recibido.
+     * @throws IllegalArgumentException Si el cliente, la lista de ventanas o alguna ventana es inválida.
+     */
+    @Override
+    @Timeout
+    @CircuitBreaker
+    @Fallback(fallbackMethod = "fallbackDailyAverageBalanceWindows")
+    public Uni<List<DailyAverageBalanceReportDto>> generateDailyAverageBalanceWindows(
+            String customerId,
+            List<DateWindow> windows
+    ) {
+        if (windows == null || windows.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicarse al menos una ventana de fechas.");
+        }
+        windows.forEach(window -> validateReportDates(customerId, window.startDate(), window.endDate()));
+
+        LocalDate firstDay = windows.stream().map(DateWindow::startDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate lastDay = windows.stream().map(DateWindow::endDate).max(LocalDate::compareTo).orElseThrow();
+        log.info("SPD Cálculo por ventanas iniciado para customerId: {}, {} ventanas en [{} - {}]",
+                customerId, windows.size(), firstDay, lastDay);
+
+        return metrics.timeReport("daily-average-balance-windows", () -> loadPrefixIndex(customerId, firstDay, lastDay)
+                .onItem().transform(index -> windows.stream()
+                        .map(window -> index.average(window.startDate(), window.endDate()))
+                        .collect(Collectors.toList())));
+    }
+
+    /**
+     * Devuelve el índice en caché si cubre el rango; en caso contrario carga el historial,
+     * construye un índice nuevo y lo publica en la caché.
+     */
+    private Uni<DailyBalancePrefixIndex> loadPrefixIndex(String customerId, LocalDate firstDay, LocalDate lastDay) {
+        DailyBalancePrefixIndex cachedIndex = cachedPrefixIndex(customerId);
+        if (cachedIndex != null && cachedIndex.covers(firstDay, lastDay)) {
+            return Uni.createFrom().item(cachedIndex);
+        }
+        return dailyBalanceHistoryService.getDailyBalances(customerId, firstDay, lastDay)
+                .onItem().transformToUni(history -> computeOffloader.compute("daily-average-balance-windows", "build-index",
+                        () -> DailyBalancePrefixIndex.build(customerId, firstDay, lastDay, history, this::mapToEffectiveBalance)))
+                .onItem().invoke(index ->
+                        spdPrefixIndexCache.as(CaffeineCache.class).put(customerId, CompletableFuture.completedFuture(index)));
+    }
+
+    private DailyBalancePrefixIndex cachedPrefixIndex(String customerId) {
+        CompletableFuture<Object> future = spdPrefixIndexCache.as(CaffeineCache.class).getIfPresent(customerId);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return (DailyBalancePrefixIndex) future.getNow(null);
+    }
+
+    /**
+     * Calcula el SPD de muchos clientes con fan-out acotado hacia el account-service.
+     * <p>
+     * No pasa por el proxy de Fault Tolerance de generateDailyAverageBalanceReport (un Timeout/CircuitBreaker
+     * por cliente): cada cliente tiene su propio tiempo máximo (reports-service.analytic-orchestration.ms),
+     * los reintentos del gateway se conservan y cualquier fallo se convierte en un resultado de error.
+     * Como mucho reports-service.bulk-spd.concurrency clientes están en vuelo a la vez.
+     *
+     * @param customerIds Los IDs de los clientes a calcular.
+     * @param startDate La fecha de inicio del periodo.
+     * @param endDate La fecha de fin del periodo.
+     * @return Multi que emite un resultado por cliente a medida que se completa.
+     * @throws IllegalArgumentException Si la lista de clientes o el rango de fechas es inválido.
+     */
+    @Override
+    public Multi<BulkDailyAverageResult> generateBulkDailyAverageBalanceReport(
+            List<String> customerIds,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        if (customerIds == null || customerIds.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicarse al menos un ID de cliente.");
+        }
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("El rango de fechas es inválido.");
+        }
+
+        log.info("SPD Masivo iniciado para {} clientes, rango: [{} - {}], concurrencia: {}",
+                customerIds.size(), startDate, endDate, bulkSpdConcurrency);
+
+        return Multi.createFrom().iterable(customerIds)
+                .onItem().transformToUni(customerId -> calculateBulkItem(customerId, startDate, endDate))
+                .merge(bulkSpdConcurrency)
+                .onCompletion().invoke(() -> log.info("SPD Masivo finalizado para {} clientes.", customerIds.size()));
+    }
+
+    private Uni<BulkDailyAverageResult> calculateBulkItem(String customerId, LocalDate startDate, LocalDate endDate) {
+        if (customerId == null || customerId.isBlank()) {
+            return Uni.createFrom().item(BulkDailyAverageResult.failure(customerId, "El ID de cliente es obligatorio."));
+        }
+        return dailyBalanceHistoryService.getDailyBalances(customerId, startDate, endDate, LimiterAdmission.WAIT)
+                .ifNoItem().after(Duration.ofMillis(analyticOrchestrationMs)).fail()
+                .onItem().transformToUni(historyList -> computeOffloader.compute("daily-average-balance-bulk", "calculate",
+                        () -> BulkDailyAverageResult.success(calculateDailyAverage(customerId, startDate, endDate, historyList))))
+                .onFailure().recoverWithItem(failure -> {
+                    log.warn("SPD Masivo: fallo para customerId {}. Causa: {}", customerId, failure.getMessage());
+                    return BulkDailyAverageResult.failure(customerId,
+                            "No se pudo calcular el SPD: " + failure.getMessage());
+                });
     }
 
     /**
@@ -156,17 +1004,34 @@ public class ReportsServiceImpl implements ReportsService {
     @Timeout
     @CircuitBreaker
     @Fallback(fallbackMethod = "fallbackConsolidatedSummary")
-    public Uni<ConsolidatedSummaryDTO> getConsolidatedSummary(String customerId) {
+    public Uni<Served<ConsolidatedSummaryDTO>> getConsolidatedSummary(String customerId) {
+        return consolidatedSummary(customerId, null).onItem().transform(Served::fresh);
+    }
+
+    /**
+     * Variante con proyección de campos; comparte la configuración de Fault Tolerance de getConsolidatedSummary.
+     * Los campos de products sólo se reenvían al Account-Service si reports-service.fields.upstream.enabled está activo.
+     */
+    @Override
+    @Timeout
+    @CircuitBreaker
+    @Fallback(fallbackMethod = "fallbackConsolidatedSummary")
+    public Uni<Served<ConsolidatedSummaryDTO>> getConsolidatedSummary(String customerId, FieldSelection fields) {
+        return consolidatedSummary(customerId, fieldsUpstreamEnabled ? fields.subFields("products") : null)
+                .onItem().transform(Served::fresh);
+    }
+
+    private Uni<ConsolidatedSummaryDTO> consolidatedSummary(String customerId, String accountFields) {
         log.info("SERVICE | Iniciando orquestación de resumen consolidado para cliente: {}", customerId);
 
         // 1. Definir las dos llamadas REST que se ejecutarán en paralelo
-        Uni<CustomerResponse> customerUni = customerServiceRestClient.getCustomerById(customerId);
-        Uni<List<AccountResponse>> accountsUni = accountServiceRestClient.getAccountsByCustomer(customerId);
+        Uni<CustomerResponse> customerUni = customerServiceGateway.getCustomerById(customerId);
+        Uni<List<AccountResponse>> accountsUni = accountServiceGateway.getAccountsByCustomer(customerId, accountFields);
 
         // 2. Orquestación reactiva: Combinar los resultados de forma eficiente
-        return Uni.combine().all().unis(customerUni, accountsUni)
+        return metrics.timeReport("consolidated-summary", () -> Uni.combine().all().unis(customerUni, accountsUni)
                 .asTuple()
-                .onItem().transform(tuple -> {
+                .onItem().transform(tuple -> metrics.timeStage("consolidated-summary", "combine", () -> {
                     // Item1 es CustomerResponse, Item2 es List<AccountResponse>
                     CustomerResponse customer = tuple.getItem1();
                     List<AccountResponse> accounts = tuple.getItem2();
@@ -179,12 +1044,13 @@ public class ReportsServiceImpl implements ReportsService {
                             .products(accounts)
                             .processingTimestamp(Instant.now().toString())
                             .build();
-                })
+                }))
+                .onItem().invoke(summary -> lastKnownGood.remember("consolidated-summary", summaryKey(customerId, accountFields), summary))
                 .onFailure().invoke(failure -> {
                     // Log detallado en caso de fallo antes de activar el Fallback
                     log.error("SERVICE | Fallo en la orquestación consolidada para cliente {}. Causa: {}",
                             customerId, failure.getMessage(), failure);
-                });
+                }));
     }
 
     /**
@@ -207,13 +1073,14 @@ public class ReportsServiceImpl implements ReportsService {
     /**
      * Ejecuta el cálculo central del Saldo Promedio Diario (SPD) a partir del historial de saldos.
      * La fórmula utilizada es: (Suma de saldos finales diarios PASIVOS) / (Número de días en el periodo).
+     * Visibilidad de paquete: medido por los benchmarks JMH (src/jmh/java).
      * * @param customerId El ID del cliente.
      * @param startDate La fecha de inicio del periodo.
      * @param endDate La fecha de fin del periodo.
      * @param historyList Lista de snapshots diarios obtenidos del account-service.
      * @return El DTO de reporte final con el saldo promedio calculado.
      */
-    private DailyAverageBalanceReportDto calculateDailyAverage(
+    DailyAverageBalanceReportDto calculateDailyAverage(
             String customerId,
             LocalDate startDate,
             LocalDate endDate,
@@ -227,23 +1094,20 @@ public class ReportsServiceImpl implements ReportsService {
 
         // 1. Determinar el número de días en el periodo
         long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
-        BigDecimal divisor = BigDecimal.valueOf(totalDays);
-
-        // 2. Sumar los saldos finales diarios (solo productos 'PASSIVE' - Depósitos)
-        BigDecimal totalDailyBalances = historyList.stream()
-                .filter(dto -> "PASSIVE".equals(dto.productType()))
-                .map(this::mapToEffectiveBalance) // Obtiene el saldo efectivo
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 3. Cálculo final del promedio
-        BigDecimal averageBalance = totalDailyBalances.divide(
-                divisor,
-                2, // Escala a 2 decimales para dinero
-                RoundingMode.HALF_UP
-        );
+
+        // 2. Sumar los saldos finales diarios (solo productos 'PASSIVE' - Depósitos) en céntimos long
+        MoneyAccumulator totalDailyBalances = new MoneyAccumulator();
+        for (DailyBalanceHistoryDto dto : historyList) {
+            if ("PASSIVE".equals(dto.productType())) {
+                totalDailyBalances.add(mapToEffectiveBalance(dto)); // Obtiene el saldo efectivo
+            }
+        }
+
+        // 3. Cálculo final del promedio (escala 2 decimales para dinero, HALF_UP)
+        BigDecimal averageBalance = totalDailyBalances.averageOver(totalDays);
 
         log.info("SPD Calculado para {}: Suma Total: {} / Días: {} = {}",
-                customerId, totalDailyBalances, totalDays, averageBalance);
+                customerId, totalDailyBalances.total(), totalDays, averageBalance);
         return new DailyAverageBalanceReportDto(customerId, startDate, endDate, averageBalance);
     }
 
@@ -252,8 +1116,9 @@ public class ReportsServiceImpl implements ReportsService {
      * debe contarse para el cálculo de la suma del Saldo Promedio Diario (SPD).
      * * @param dto El DTO de historial de saldo de un día.
      * @return El valor de saldo efectivo que se sumará a la cuenta (BigDecimal.ZERO si es un producto 'ACTIVE').
+     * Visibilidad de paquete: DailyBalancePrefixIndexTest lo usa para construir el índice como el servicio.
      */
-    private BigDecimal mapToEffectiveBalance(DailyBalanceHistoryDto dto) {
+    BigDecimal mapToEffectiveBalance(DailyBalanceHistoryDto dto) {
         // Para el Saldo Promedio Diario (SPD), solo los saldos de Depósito (PASSIVE) contribuyen.
 
         if ("PASSIVE".equals(dto.productType())) {
@@ -266,7 +1131,8 @@ public class ReportsServiceImpl implements ReportsService {
         return BigDecimal.ZERO;
     }
 
-    private BalanceReportDTO mapToBalanceReportDTO(AccountResponse account) {
+    // Visibilidad de paquete: medido por los benchmarks JMH (src/jmh/java).
+    BalanceReportDTO mapToBalanceReportDTO(AccountResponse account) {
         log.debug("Mapping account {} with type {}", account.id(), account.productType());
 
         BigDecimal availableBalance;
@@ -289,10 +1155,11 @@ public class ReportsServiceImpl implements ReportsService {
 
     /**
      * Aplica la lógica de GroupBy y Sum para transformar la lista detallada en el reporte final.
+     * Visibilidad de paquete: medido por los benchmarks JMH (src/jmh/java).
      * @param detailedCommissions Lista de comisiones brutas recibidas del Transaction-Service.
      * @return Lista de CommissionReportItem sumados.
      */
-    private List<CommissionReportItem> aggregateCommissions(List<CommissionReportDto> detailedCommissions) {
+    List<CommissionReportItem> aggregateCommissions(List<CommissionReportDto> detailedCommissions) {
 
         if (detailedCommissions.isEmpty()) {
             log.info("SERVICE | No se encontraron comisiones en el rango especificado.");
@@ -301,90 +1168,147 @@ public class ReportsServiceImpl implements ReportsService {
 
         log.debug("SERVICE | {} registros detallados recibidos. Iniciando agregación.", detailedCommissions.size());
 
-        // A. Agrupar los DTOs por productName
-        Map<String, List<CommissionReportDto>> groupedByProductName = detailedCommissions.stream()
-                .collect(Collectors.groupingBy(CommissionReportDto::productName));
-
-        // B. Mapear y Sumar cada grupo
-        return groupedByProductName.entrySet().stream()
-                .map(entry -> {
-                    String productName = entry.getKey();
-                    List<CommissionReportDto> list = entry.getValue();
-
-                    // Sumar las comisiones de todos los items en este grupo
-                    BigDecimal totalFees = list.stream()
-                            .map(CommissionReportDto::fee)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                    // Extraer ProductType (asumiendo consistencia dentro del grupo)
-                    ProductType productType = list.getFirst().productType();
-
-                    return CommissionReportItem.builder()
-                            .productName(productName)
-                            .productType(productType)
-                            .totalFees(totalFees)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // Agrupar por productName y sumar en una sola pasada (sin listas intermedias por grupo)
+        CommissionAccumulator accumulator = new CommissionAccumulator();
+        detailedCommissions.forEach(accumulator::add);
+        return accumulator.toItems();
     }
 
     /**
-     * Fallback con la firma EXACTA para getBalancesByCustomer (Uni<List<BalanceReportDTO>>).
+     * Fallback con la firma EXACTA para loadBalancesByCustomer (Uni<Served<List<BalanceReportDTO>>>).
      */
-    public Uni<List<BalanceReportDTO>> fallbackBalancesByCustomer(String customerId, Throwable failure) {
-        // Casting explícito: Le decimos al compilador que el Uni devuelto
-        // por la función privada es, a efectos de compilación, del tipo correcto.
-        @SuppressWarnings("unchecked")
-        Uni<List<BalanceReportDTO>> uni = (Uni<List<BalanceReportDTO>>) handleQuickQueryFallback(customerId, failure);
-        return uni;
+    public Uni<Served<List<BalanceReportDTO>>> fallbackBalancesByCustomer(String customerId, Throwable failure) {
+        metrics.fallback("balances", failure);
+        log.error("FALLBACK ACTIVO (Consulta Rápida) para ID {}. Causa: {}", customerId, failure.getMessage());
+        // Stale-if-error: con el Circuit Breaker abierto (o ante un fallo) se sirve la última respuesta correcta.
+        return staleOrUnavailable("balances", customerId, QUICK_QUERY_UNAVAILABLE, failure);
     }
 
     /**
      * Fallback con la firma EXACTA para getTransactionsByAccountId (Uni<List<TransactionResponse>>).
      */
     public Uni<List<TransactionResponse>> fallbackTransactionsByAccountId(String accountId, Throwable failure) {
+        metrics.fallback("movements", failure);
         // Casting explícito.
         @SuppressWarnings("unchecked")
         Uni<List<TransactionResponse>> uni = (Uni<List<TransactionResponse>>) handleQuickQueryFallback(accountId, failure);
         return uni;
     }
 
+    /**
+     * Fallback con la firma EXACTA para la página de getTransactionsByAccountId (Uni<TransactionPage>).
+     */
+    public Uni<TransactionPage> fallbackTransactionsByAccountId(
+            String accountId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MovementCursor cursor,
+            int limit,
+            Throwable failure
+    ) {
+        metrics.fallback("movements-page", failure);
+        @SuppressWarnings("unchecked")
+        Uni<TransactionPage> uni = (Uni<TransactionPage>) handleQuickQueryFallback(accountId, failure);
+        return uni;
+    }
+
     /**
      * Lógica común que maneja el fallo de consultas rápidas y lanza la ServiceUnavailableException.
      * El tipo de retorno es genérico (Uni) ya que siempre lanza una excepción.
      */
     private Uni handleQuickQueryFallback(String id, Throwable failure) {
         log.error("FALLBACK ACTIVO (Consulta Rápida) para ID {}. Causa: {}", id, failure.getMessage());
-        String errorMessage = "El servicio de reportes rápidos está temporalmente no disponible.";
-        return Uni.createFrom().failure(new ServiceUnavailableException(errorMessage, failure));
+        return Uni.createFrom().failure(new ServiceUnavailableException(QUICK_QUERY_UNAVAILABLE, failure));
+    }
+
+    /**
+     * Si existe una respuesta last-known-good para el reporte, la emite marcada como obsoleta (el recurso la sirve
+     * como HTTP 200 con X-Stale y Age); en caso contrario falla con ServiceUnavailableException (HTTP 503).
+     */
+    private <T> Uni<Served<T>> staleOrUnavailable(String report, Object key, String errorMessage, Throwable failure) {
+        Optional<CachedResponse<T>> snapshot = lastKnownGood.lookup(report, key);
+        if (snapshot.isEmpty()) {
+            return Uni.createFrom().failure(new ServiceUnavailableException(errorMessage, failure));
+        }
+        log.warn("FALLBACK ACTIVO ({}) | Se sirve la última respuesta correcta, de hace {} s.", report, snapshot.get().age().toSeconds());
+        metrics.responseCache(report, "stale-on-error");
+        return Uni.createFrom().item(Served.stale(snapshot.get()));
     }
 
     //FALLBACK para generateCommissionsReport (Reporte Pesado - HTTP 503)
     public Uni<List<CommissionReportItem>> fallbackCommissionsReport(LocalDate startDate, LocalDate endDate, Throwable failure) {
+        metrics.fallback("commissions", failure);
         log.error("FALLBACK ACTIVO (Comisiones) desde {} hasta {}. Causa: {}", startDate, endDate, failure.getMessage());
         String errorMessage = "El servicio de reporte de comisiones está inoperativo. No se pudieron obtener los datos brutos.";
         return Uni.createFrom().failure(new ServiceUnavailableException(errorMessage, failure));
     }
 
+    //FALLBACK para generatePartitionedCommissionsReport (Reporte Pesado - HTTP 503)
+    public Uni<List<CommissionReportItem>> fallbackPartitionedCommissionsReport(
+            LocalDate startDate,
+            LocalDate endDate,
+            PartitionGranularity granularity,
+            Throwable failure
+    ) {
+        return fallbackCommissionsReport(startDate, endDate, failure);
+    }
+
     //FALLBACK para generateDailyAverageBalanceReport (Orquestación Analítica - HTTP 503)
-    public Uni<DailyAverageBalanceReportDto> fallbackDailyAverageBalanceReport(
+    public Uni<Served<DailyAverageBalanceReportDto>> fallbackDailyAverageBalanceReport(
             String customerId,
             LocalDate startDate,
             LocalDate endDate,
             Throwable failure
     ) {
+        metrics.fallback("daily-average-balance", failure);
         log.error("FALLBACK ACTIVO (SPD) para cliente {}. Causa: {}", customerId, failure.getMessage());
         String errorMessage = "El servicio de reporte SPD está inoperativo. No se pudieron obtener datos históricos.";
+        if (customerId == null || startDate == null || endDate == null) {
+            return Uni.createFrom().failure(new ServiceUnavailableException(errorMessage, failure));
+        }
+        return staleOrUnavailable("daily-average-balance", List.of(customerId, startDate, endDate), errorMessage, failure);
+    }
+
+    //FALLBACK para generateDailyAverageBalanceWindows (Orquestación Analítica - HTTP 503)
+    public Uni<List<DailyAverageBalanceReportDto>> fallbackDailyAverageBalanceWindows(
+            String customerId,
+            List<DateWindow> windows,
+            Throwable failure
+    ) {
+        metrics.fallback("daily-average-balance-windows", failure);
+        log.error("FALLBACK ACTIVO (SPD por ventanas) para cliente {}. Causa: {}", customerId, failure.getMessage());
+        String errorMessage = "El servicio de reporte SPD está inoperativo. No se pudieron obtener datos históricos.";
         return Uni.createFrom().failure(new ServiceUnavailableException(errorMessage, failure));
     }
 
     /**
-     * Método Fallback de degradación para getConsolidatedSummary.
-     * Lanza una excepción global específica que es mapeada a HTTP 503 (Service Unavailable).
+     * Método Fallback de degradación para getConsolidatedSummary: el último resumen correcto, o una
+     * excepción global específica que es mapeada a HTTP 503 (Service Unavailable).
      */
-    public Uni<ConsolidatedSummaryDTO> fallbackConsolidatedSummary(String customerId, Throwable failure) {
+    public Uni<Served<ConsolidatedSummaryDTO>> fallbackConsolidatedSummary(String customerId, Throwable failure) {
+        metrics.fallback("consolidated-summary", failure);
         log.warn("FALLBACK ACTIVO | Resumen Consolidado para cliente {}. Causa: {}", customerId, failure.getMessage());
         String errorMessage = "El servicio de resumen consolidado está inoperativo. No se pudo completar la orquestación de datos.";
-        return Uni.createFrom().failure(new ServiceUnavailableException(errorMessage, failure));
+        return staleOrUnavailable("consolidated-summary", customerId, errorMessage, failure);
+    }
+
+    /**
+     * Fallback de la variante con proyección: usa el last-known-good de la misma proyección de cuentas
+     * (el recurso le aplica la proyección de campos de la petición al serializarlo).
+     */
+    public Uni<Served<ConsolidatedSummaryDTO>> fallbackConsolidatedSummary(String customerId, FieldSelection fields, Throwable failure) {
+        metrics.fallback("consolidated-summary", failure);
+        log.warn("FALLBACK ACTIVO | Resumen Consolidado (fields={}) para cliente {}. Causa: {}", fields, customerId, failure.getMessage());
+        String errorMessage = "El servicio de resumen consolidado está inoperativo. No se pudo completar la orquestación de datos.";
+        String accountFields = fieldsUpstreamEnabled ? fields.subFields("products") : null;
+        return staleOrUnavailable("consolidated-summary", summaryKey(customerId, accountFields), errorMessage, failure);
+    }
+
+    /**
+     * Clave last-known-good del resumen: las cuentas proyectadas por el Account-Service no deben servirse
+     * a quien pidió el resumen completo.
+     */
+    private static Object summaryKey(String customerId, String accountFields) {
+        return accountFields == null ? customerId : List.of(customerId, accountFields);
     }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.bancario.reports.service.impl;
+
+import com.bancario.reports.cache.CachedResponse;
+import com.bancario.reports.dto.ConsolidatedSummaryDTO;
+import com.bancario.reports.metrics.ReportsMetrics;
+import com.bancario.reports.serialization.PreSerializedEntity;
+import com.bancario.reports.serialization.WireFormats;
+import com.bancario.reports.service.ReportsService;
+import com.bancario.reports.service.SummarySnapshotService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Snapshots pre-serializados del resumen consolidado de los clientes más consultados.
+ * <p>
+ * Cada consulta suma un acceso al cliente. Cada reports-service.summary-snapshots.refresh-interval se eligen
+ * los top-n clientes con al menos min-accesses accesos, se recalcula su resumen (con concurrencia acotada) y se
+ * guarda serializado (JSON al refrescar, Smile al pedirse); los contadores se reducen a la mitad para seguir los
+ * cambios de popularidad. Está desactivado por defecto: cada ciclo recalcula top-n resúmenes consolidados, lo que
+ * multiplica las llamadas a los servicios externos, y conviene activarlo sólo con un top-n acorde a su capacidad.
+ * Si el recálculo falla se conserva el snapshot anterior, que deja de servirse al superar max-age.
+ * <p>
+ * Se publican en /q/metrics {@value #SNAPSHOTS_GAUGE} y la antigüedad de los snapshots servidos
+ * en {@value ReportsMetrics#SNAPSHOT_AGE_TIMER}.
+ */
+@Slf4j
+@ApplicationScoped
+public class SummarySnapshotServiceImpl implements SummarySnapshotService {
+
+    public static final String SNAPSHOTS_GAUGE = "reports.summary.snapshots";
+
+    private static final String REPORT = "consolidated";
+
+    @Inject
+    ReportsService reportsService;
+
+    @Inject
+    WireFormats wireFormats;
+
+    @Inject
+    ReportsMetrics metrics;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "reports-service.summary-snapshots.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "reports-service.summary-snapshots.top-n", defaultValue = "50")
+    int topN;
+
+    @ConfigProperty(name = "reports-service.summary-snapshots.min-accesses", defaultValue = "3")
+    long minAccesses;
+
+    @ConfigProperty(name = "reports-service.summary-snapshots.max-age", defaultValue = "2M")
+    Duration maxAge;
+
+    @ConfigProperty(name = "reports-service.summary-snapshots.refresh-concurrency", defaultValue = "8")
+    int refreshConcurrency;
+
+    // Clientes con contador de accesos; por encima de este número no se registran clientes nuevos hasta la siguiente reducción.
+    @ConfigProperty(name = "reports-service.summary-snapshots.max-tracked", defaultValue = "50000")
+    int maxTracked;
+
+    private final Map<String, LongAdder> accesses = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse<PreSerializedEntity>> snapshots = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder(SNAPSHOTS_GAUGE, snapshots, Map::size).register(registry);
+    }
+
+    @Override
+    public Optional<CachedResponse<PreSerializedEntity>> find(String customerId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        LongAdder counter = accesses.get(customerId);
+        if (counter == null && accesses.size() < maxTracked) {
+            counter = accesses.computeIfAbsent(customerId, id -> new LongAdder());
+        }
+        if (counter != null) {
+            counter.increment();
+        }
+
+        CachedResponse<PreSerializedEntity> snapshot = snapshots.get(customerId);
+        if (snapshot == null || snapshot.age().compareTo(maxAge) > 0) {
+            metrics.responseCache(REPORT, "miss");
+            return Optional.empty();
+        }
+        metrics.responseCache(REPORT, "snapshot");
+        metrics.snapshotAge(REPORT, snapshot.age());
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Recalcula los snapshots de los clientes más consultados y descarta los que salieron del top.
+     */
+    @Scheduled(every = "${reports-service.summary-snapshots.refresh-interval:30s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> refresh() {
+        if (!enabled || accesses.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<String> hottest = accesses.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() >= minAccesses)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(topN)
+                .map(Map.Entry::getKey)
+                .toList();
+        snapshots.keySet().retainAll(hottest);
+        decayAccesses();
+
+        if (hottest.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        log.debug("SNAPSHOTS | Refrescando el resumen consolidado de {} clientes.", hottest.size());
+        return Multi.createFrom().iterable(hottest)
+                .onItem().transformToUni(this::refreshSnapshot)
+                .merge(refreshConcurrency)
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> refreshSnapshot(String customerId) {
+        return reportsService.getConsolidatedSummary(customerId)
+                .onItem().invoke(served -> {
+                    if (served.stale()) {
+                        // Respuesta last-known-good: se conserva el snapshot anterior.
+                        log.warn("SNAPSHOTS | No se pudo refrescar el resumen del cliente {}: servicio no disponible.", customerId);
+                        return;
+                    }
+                    ConsolidatedSummaryDTO summary = served.value();
+                    snapshots.put(customerId, CachedResponse.of(wireFormats.preSerialize(summary, summary.processingTimestamp())));
+                })
+                .replaceWithVoid()
+                // Fallo: se conserva el snapshot anterior.
+                .onFailure().recoverWithItem(failure -> {
+                    log.warn("SNAPSHOTS | No se pudo refrescar el resumen del cliente {}: {}", customerId, failure.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * Reduce los contadores a la mitad y olvida los clientes sin accesos recientes.
+     */
+    private void decayAccesses() {
+        accesses.entrySet().removeIf(entry -> {
+            long halved = entry.getValue().sumThenReset() / 2;
+            entry.getValue().add(halved);
+            return halved == 0;
+        });
+    }
+}
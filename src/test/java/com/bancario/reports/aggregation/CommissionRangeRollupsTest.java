@@ -0,0 +1,68 @@
+package com.bancario.reports.aggregation;
+
+import com.bancario.reports.dto.CommissionReportDto;
+import com.bancario.reports.dto.CommissionReportItem;
+import com.bancario.reports.enums.ProductType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CommissionRangeRollupsTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate END = LocalDate.of(2024, 3, 10);
+
+    @Test
+    void warmReportFromPublishedRollupsMatchesColdReport() {
+        // Petición en frío: dos tramos consultados, con comisiones sin fecha en ambos.
+        CommissionRangeRollups first = new CommissionRangeRollups(START, LocalDate.of(2024, 3, 4))
+                .add(commission("SAVINGS_ACCOUNT", "1.10", LocalDate.of(2024, 3, 2)))
+                .add(commission("SAVINGS_ACCOUNT", "0.40", null))
+                .add(commission("CREDIT_CARD", "2.005", LocalDate.of(2024, 3, 4)));
+        CommissionRangeRollups second = new CommissionRangeRollups(LocalDate.of(2024, 3, 5), END)
+                .add(commission("CREDIT_CARD", "3.00", null))
+                .add(commission("CREDIT_CARD", "0.005", LocalDate.of(2024, 3, 9)));
+        CommissionRangeRollups cold = new CommissionRangeRollups().merge(first).merge(second);
+        List<CommissionReportItem> coldReport = cold.report(START, END, day -> null);
+
+        // Petición en caliente: todos los días salen de los rollups publicados, sin consultar tramos.
+        Map<LocalDate, CommissionAccumulator> published = new HashMap<>();
+        cold.days().forEach(day -> published.put(day, cold.rollup(day)));
+        List<CommissionReportItem> warmReport = new CommissionRangeRollups().report(START, END, published::get);
+
+        assertEquals(totals(coldReport), totals(warmReport));
+        assertEquals(new BigDecimal("1.50"), totals(warmReport).get("SAVINGS_ACCOUNT"));
+        assertEquals(new BigDecimal("5.01"), totals(warmReport).get("CREDIT_CARD"));
+    }
+
+    @Test
+    void anchorsUndatedCommissionsToFirstDayOfRange() {
+        CommissionRangeRollups range = new CommissionRangeRollups(START, END)
+                .add(commission("SAVINGS_ACCOUNT", "0.40", null))
+                .add(commission("SAVINGS_ACCOUNT", "1.00", LocalDate.of(2024, 3, 5)))
+                .add(commission("SAVINGS_ACCOUNT", "9.00", LocalDate.of(2024, 4, 1)));
+
+        assertEquals(1, range.undated(START).count());
+        assertEquals(0, range.dated(START).count());
+        assertEquals(1, range.rollup(START).count());
+        assertNull(range.undated(LocalDate.of(2024, 3, 5)));
+        assertEquals(new BigDecimal("1.40"), totals(range.report(START, END, day -> null)).get("SAVINGS_ACCOUNT"));
+    }
+
+    private static CommissionReportDto commission(String productName, String fee, LocalDate day) {
+        return new CommissionReportDto("acc-1", ProductType.PASSIVE, productName, new BigDecimal(fee),
+                day != null ? day.atTime(10, 30) : null);
+    }
+
+    private static Map<String, BigDecimal> totals(List<CommissionReportItem> items) {
+        return items.stream().collect(Collectors.toMap(CommissionReportItem::productName, CommissionReportItem::totalFees));
+    }
+}
@@ -0,0 +1,102 @@
+package com.bancario.reports.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void sumsMixedScalesExactly() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new BigDecimal("10"))
+                .add(new BigDecimal("0.5"))
+                .add(new BigDecimal("0.25"))
+                .add(new BigDecimal("-3.10"))
+                .add((BigDecimal) null);
+
+        assertEquals(new BigDecimal("7.65"), accumulator.total());
+        assertEquals(new BigDecimal("7.65"), accumulator.totalRounded());
+    }
+
+    @Test
+    void fallsBackToExactSumForMoreThanTwoDecimals() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new BigDecimal("1.10"))
+                .add(new BigDecimal("0.005"))
+                .add(new BigDecimal("2"));
+
+        assertEquals(new BigDecimal("3.105"), accumulator.total());
+        assertEquals(new BigDecimal("3.11"), accumulator.totalRounded());
+    }
+
+    @Test
+    void roundsHalfUpAwayFromZero() {
+        assertEquals(new BigDecimal("-3.11"), new MoneyAccumulator().add(new BigDecimal("-3.105")).totalRounded());
+        assertEquals(new BigDecimal("0.33"), new MoneyAccumulator().add(new BigDecimal("1.00")).averageOver(3));
+        assertEquals(new BigDecimal("0.67"), new MoneyAccumulator().add(new BigDecimal("2.00")).averageOver(3));
+        assertEquals(new BigDecimal("0.01"), new MoneyAccumulator().add(new BigDecimal("0.01")).averageOver(2));
+        assertEquals(new BigDecimal("-0.01"), new MoneyAccumulator().add(new BigDecimal("-0.01")).averageOver(2));
+        assertEquals(new BigDecimal("0.00"), new MoneyAccumulator().add(new BigDecimal("0.01")).averageOver(3));
+    }
+
+    @Test
+    void averageInExactModeMatchesCentsMode() {
+        MoneyAccumulator cents = new MoneyAccumulator().add(new BigDecimal("10.00"));
+        MoneyAccumulator exact = new MoneyAccumulator().add(new BigDecimal("10.000"));
+
+        assertEquals(cents.averageOver(3), exact.averageOver(3));
+        assertThrows(IllegalArgumentException.class, () -> cents.averageOver(0));
+    }
+
+    @Test
+    void fallsBackToExactSumOnLongOverflow() {
+        // Cada importe cabe en céntimos long, pero la suma supera Long.MAX_VALUE hacia el sumando 8385.
+        BigDecimal amount = new BigDecimal("11000000000000.00");
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        for (int i = 0; i < 10_000; i++) {
+            accumulator.add(amount);
+        }
+
+        assertEquals(new BigDecimal("110000000000000000.00"), accumulator.total());
+        assertEquals(new BigDecimal("220000000000000000.00"), accumulator.add(accumulator).total());
+    }
+
+    @Test
+    void keepsAmountsBeyondTheDoublePrecisionBoundExact() {
+        BigDecimal huge = new BigDecimal("12345678901234567.89");
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+                .add(new BigDecimal("0.01"))
+                .add(huge);
+
+        assertEquals(huge.add(new BigDecimal("0.01")), accumulator.total());
+    }
+
+    @Test
+    void mergesAccumulatorsInBothModes() {
+        MoneyAccumulator cents = new MoneyAccumulator().add(new BigDecimal("1.25"));
+        MoneyAccumulator exact = new MoneyAccumulator().add(new BigDecimal("0.125"));
+
+        assertEquals(new BigDecimal("2.50"), new MoneyAccumulator().add(cents).add(cents).total());
+        assertEquals(new BigDecimal("1.375"), new MoneyAccumulator().add(cents).add(exact).total());
+    }
+
+    @Test
+    void matchesBigDecimalReduceForRandomAmounts() {
+        SplittableRandom random = new SplittableRandom(20250101L);
+        BigDecimal expected = BigDecimal.ZERO;
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        for (int i = 0; i < 100_000; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(-1L << 49, 1L << 49), random.nextInt(3));
+            expected = expected.add(amount);
+            accumulator.add(amount);
+        }
+
+        assertEquals(0, expected.compareTo(accumulator.total()));
+        assertEquals(expected.setScale(MoneyAccumulator.SCALE, MoneyAccumulator.ROUNDING), accumulator.totalRounded());
+    }
+}
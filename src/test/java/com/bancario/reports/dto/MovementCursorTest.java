@@ -0,0 +1,87 @@
+package com.bancario.reports.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MovementCursorTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2024, 3, 2, 9, 0);
+    private static final LocalDateTime EVENING = LocalDateTime.of(2024, 3, 2, 20, 0);
+    private static final LocalDateTime PREVIOUS_DAY = LocalDateTime.of(2024, 3, 1, 18, 0);
+
+    @Test
+    void nextCountsTiesOfLastPositionAndDayOffset() {
+        List<TransactionResponse> page = List.of(
+                movement("c", EVENING),
+                movement("b", MORNING),
+                movement("b", MORNING));
+
+        assertEquals(new MovementCursor(MORNING, "b", 2, 3), MovementCursor.next(page, null));
+    }
+
+    @Test
+    void nextAccumulatesTiesAndDayOffsetOfPreviousCursor() {
+        MovementCursor previous = new MovementCursor(MORNING, "b", 2, 3);
+
+        MovementCursor next = MovementCursor.next(List.of(movement("b", MORNING), movement("a", MORNING)), previous);
+        assertEquals(new MovementCursor(MORNING, "a", 1, 5), next);
+
+        // Misma posición que el cursor anterior: se suman sus empates.
+        assertEquals(new MovementCursor(MORNING, "b", 3, 4), MovementCursor.next(List.of(movement("b", MORNING)), previous));
+    }
+
+    @Test
+    void nextRestartsDayOffsetOnNewDay() {
+        MovementCursor previous = new MovementCursor(MORNING, "b", 1, 3);
+
+        MovementCursor next = MovementCursor.next(List.of(movement("a", MORNING), movement("z", PREVIOUS_DAY)), previous);
+
+        assertEquals(new MovementCursor(PREVIOUS_DAY, "z", 1, 1), next);
+    }
+
+    @Test
+    void nextTiesUndatedMovementsWithoutId() {
+        List<TransactionResponse> page = List.of(movement("a", MORNING), movement(null, null), movement(null, null));
+
+        assertEquals(new MovementCursor(null, null, 2, null), MovementCursor.next(page, null));
+    }
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        MovementCursor cursor = new MovementCursor(MORNING, "tx|1", 2, 3);
+        MovementCursor undated = new MovementCursor(null, null, 1, null);
+
+        assertEquals(cursor, MovementCursor.decode(cursor.encode()));
+        assertEquals(undated, MovementCursor.decode(undated.encode()));
+    }
+
+    @Test
+    void rejectsInvalidCursors() {
+        assertInvalid("no es base64!");
+        assertInvalid(encoded("1|2|2024-03-02T09:00"));
+        assertInvalid(encoded("x|2|2024-03-02T09:00|b"));
+        assertInvalid(encoded("0|2|2024-03-02T09:00|b"));
+        assertInvalid(encoded("3|2|2024-03-02T09:00|b"));
+        assertInvalid(encoded("1|2|ayer|b"));
+    }
+
+    private static void assertInvalid(String cursor) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> MovementCursor.decode(cursor));
+        assertEquals("El cursor de paginación es inválido.", e.getMessage());
+    }
+
+    private static String encoded(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TransactionResponse movement(String id, LocalDateTime transactionDate) {
+        return new TransactionResponse(id, "acc-1", "cust-1", null, null, transactionDate, null);
+    }
+}
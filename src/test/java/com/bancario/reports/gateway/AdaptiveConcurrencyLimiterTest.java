@@ -0,0 +1,126 @@
+package com.bancario.reports.gateway;
+
+import com.bancario.reports.exception.ConcurrencyLimitExceededException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final AtomicInteger rejections = new AtomicInteger();
+
+    @Test
+    void fastSuccessfulCallIncreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+        limiter.execute(() -> Uni.createFrom().item("ok")).await().atMost(TIMEOUT);
+
+        assertEquals(3, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void limitDoesNotExceedMaximum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 2);
+
+        limiter.execute(() -> Uni.createFrom().item("ok")).await().atMost(TIMEOUT);
+
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    void overloadFailureDecreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 10);
+
+        assertThrows(TimeoutException.class, () -> limiter.execute(() -> Uni.createFrom().failure(new TimeoutException()))
+                .await().atMost(TIMEOUT));
+        assertEquals(5, limiter.limit());
+
+        // La disminución se detiene en el mínimo.
+        for (int i = 0; i < 3; i++) {
+            assertThrows(TimeoutException.class, () -> limiter.execute(() -> Uni.createFrom().failure(new TimeoutException()))
+                    .await().atMost(TIMEOUT));
+        }
+        assertEquals(2, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void clientSideFailureDoesNotChangeLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 20);
+
+        assertThrows(IllegalArgumentException.class, () -> limiter.execute(() -> Uni.createFrom().failure(new IllegalArgumentException()))
+                .await().atMost(TIMEOUT));
+
+        assertEquals(10, limiter.limit());
+    }
+
+    @Test
+    void slowCallDecreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 20, 0.5, 10, rejections::incrementAndGet);
+
+        limiter.execute(() -> Uni.createFrom().item("ok").onItem().delayIt().by(Duration.ofMillis(50))).await().atMost(TIMEOUT);
+
+        assertEquals(5, limiter.limit());
+    }
+
+    @Test
+    void rejectsCallsOverLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1);
+        AtomicReference<UniEmitter<? super String>> pending = new AtomicReference<>();
+        limiter.execute(() -> Uni.createFrom().<String>emitter(pending::set)).subscribe().with(item -> { });
+
+        assertThrows(ConcurrencyLimitExceededException.class,
+                () -> limiter.execute(() -> Uni.createFrom().item("ok")).await().atMost(TIMEOUT));
+        assertEquals(1, rejections.get());
+        assertEquals(1, limiter.inFlight());
+
+        // Al terminar la llamada en curso el permiso queda libre.
+        pending.get().complete("ok");
+        assertEquals("ok", limiter.execute(() -> Uni.createFrom().item("ok")).await().atMost(TIMEOUT));
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void waitingCallRunsWhenPermitIsReleased() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1);
+        AtomicReference<UniEmitter<? super String>> pending = new AtomicReference<>();
+        limiter.execute(() -> Uni.createFrom().<String>emitter(pending::set)).subscribe().with(item -> { });
+
+        AtomicReference<String> waited = new AtomicReference<>();
+        limiter.execute(() -> Uni.createFrom().item("waited"), TIMEOUT).subscribe().with(waited::set);
+        assertEquals(1, limiter.waiting());
+
+        pending.get().complete("ok");
+
+        assertEquals("waited", waited.get());
+        assertEquals(0, limiter.waiting());
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, rejections.get());
+    }
+
+    @Test
+    void waitingCallIsRejectedAfterMaxWait() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1);
+        limiter.execute(() -> Uni.createFrom().<String>nothing()).subscribe().with(item -> { });
+
+        assertThrows(ConcurrencyLimitExceededException.class,
+                () -> limiter.execute(() -> Uni.createFrom().item("ok"), Duration.ofMillis(50)).await().atMost(TIMEOUT));
+        assertEquals(1, rejections.get());
+        assertEquals(0, limiter.waiting());
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, minLimit, maxLimit, 0.5, 10_000, rejections::incrementAndGet);
+    }
+}
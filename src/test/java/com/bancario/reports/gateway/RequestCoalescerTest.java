@@ -0,0 +1,72 @@
+package com.bancario.reports.gateway;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class RequestCoalescerTest {
+
+    private final RequestCoalescer<String, String> coalescer = new RequestCoalescer<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<UniEmitter<? super String>> upstream = new AtomicReference<>();
+    private final List<Object> results = new CopyOnWriteArrayList<>();
+
+    @Test
+    void concurrentCallsForSameKeyShareOneUpstreamCall() {
+        subscribe("cust-1");
+        subscribe("cust-1");
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.inFlightCount());
+
+        upstream.get().complete("balances");
+
+        assertEquals(List.of("balances", "balances"), results);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() {
+        subscribe("cust-1");
+        subscribe("cust-2");
+
+        assertEquals(2, calls.get());
+        assertEquals(2, coalescer.inFlightCount());
+    }
+
+    @Test
+    void failedCallIsSharedAndReleasesKey() {
+        subscribe("cust-1");
+        subscribe("cust-1");
+
+        upstream.get().fail(new IllegalStateException("account-service caído"));
+
+        assertEquals(2, results.size());
+        results.forEach(result -> assertInstanceOf(IllegalStateException.class, result));
+        assertEquals(0, coalescer.inFlightCount());
+
+        // Tras el fallo la clave está libre: la siguiente llamada vuelve al servicio externo.
+        String retried = coalescer.execute("cust-1", () -> {
+            calls.incrementAndGet();
+            return Uni.createFrom().item("balances");
+        }).await().atMost(Duration.ofSeconds(5));
+        assertEquals("balances", retried);
+        assertEquals(2, calls.get());
+    }
+
+    private void subscribe(String key) {
+        coalescer.execute(key, () -> {
+                    calls.incrementAndGet();
+                    return Uni.createFrom().emitter(upstream::set);
+                })
+                .subscribe().with(results::add, results::add);
+    }
+}
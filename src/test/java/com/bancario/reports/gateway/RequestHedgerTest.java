@@ -0,0 +1,83 @@
+package com.bancario.reports.gateway;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestHedgerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void sendsHedgeAfterDelayAndHedgeWins() {
+        RequestHedger hedger = new RequestHedger(0.95, 20, 1, 1.0, 1.0, events::add);
+
+        String result = hedger.execute(() -> calls.incrementAndGet() == 1
+                        ? Uni.createFrom().<String>nothing()
+                        : Uni.createFrom().item("hedge"))
+                .await().atMost(TIMEOUT);
+
+        assertEquals("hedge", result);
+        assertEquals(2, calls.get());
+        assertEquals(List.of(RequestHedger.SENT, RequestHedger.WON), events);
+    }
+
+    @Test
+    void doesNotHedgeWhenBudgetIsExhausted() {
+        RequestHedger hedger = new RequestHedger(0.95, 10, 1, 0.1, 1.0, events::add);
+
+        String result = hedger.execute(() -> {
+                    calls.incrementAndGet();
+                    return Uni.createFrom().item("primary").onItem().delayIt().by(Duration.ofMillis(150));
+                })
+                .await().atMost(TIMEOUT);
+
+        assertEquals("primary", result);
+        assertEquals(1, calls.get());
+        assertEquals(List.of(RequestHedger.BUDGET_EXHAUSTED), events);
+    }
+
+    @Test
+    void primaryWinsBeforeDelayAndHedgeIsNeverSent() throws InterruptedException {
+        RequestHedger hedger = new RequestHedger(0.95, 100, 1, 1.0, 1.0, events::add);
+
+        String result = hedger.execute(() -> {
+                    calls.incrementAndGet();
+                    return Uni.createFrom().item("primary");
+                })
+                .await().atMost(TIMEOUT);
+        // Pasado el retardo, el temporizador del hedge ya se canceló.
+        Thread.sleep(200);
+
+        assertEquals("primary", result);
+        assertEquals(1, calls.get());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void primaryFailureBeforeDelayIsPropagatedWithoutHedging() throws InterruptedException {
+        RequestHedger hedger = new RequestHedger(0.95, 100, 1, 1.0, 1.0, events::add);
+
+        Uni<String> call = hedger.execute(() -> {
+            calls.incrementAndGet();
+            return Uni.createFrom().failure(new IllegalStateException("account-service caído"));
+        });
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> call.await().atMost(TIMEOUT));
+        Thread.sleep(200);
+
+        assertEquals("account-service caído", failure.getMessage());
+        assertEquals(1, calls.get());
+        assertTrue(events.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.bancario.reports.serialization;
+
+import com.bancario.reports.dto.AccountResponse;
+import com.bancario.reports.dto.ConsolidatedSummaryDTO;
+import com.bancario.reports.enums.ProductType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FieldsPropertyFilterTest {
+
+    private static final ConsolidatedSummaryDTO SUMMARY = ConsolidatedSummaryDTO.builder()
+            .customerId("cust-1")
+            .fullName("Ana Pérez")
+            .customerStatus("ACTIVE")
+            .products(List.of(
+                    account("acc-1", "100.50", List.of("cust-1")),
+                    account("acc-2", "7.25", List.of("cust-1", "cust-2"))))
+            .processingTimestamp("2024-03-02T09:00:00Z")
+            .build();
+
+    private final ObjectMapper mapper = mapper();
+
+    @Test
+    void selectsNestedFieldsOfEachArrayElement() throws Exception {
+        assertEquals(json("""
+                        {"customerId": "cust-1",
+                         "products": [{"id": "acc-1", "balance": 100.50}, {"id": "acc-2", "balance": 7.25}]}
+                        """),
+                serialize("customerId,products.id,products.balance"));
+    }
+
+    @Test
+    void selectingParentIncludesAllItsFields() throws Exception {
+        JsonNode summary = serialize("products");
+
+        assertEquals(1, summary.size());
+        assertEquals(mapper.readTree(mapper.writeValueAsBytes(SUMMARY.products())), summary.get("products"));
+    }
+
+    @Test
+    void nestedArraysDoNotCountInPath() throws Exception {
+        assertEquals(json("""
+                        {"products": [{"holders": ["cust-1"]}, {"holders": ["cust-1", "cust-2"]}]}
+                        """),
+                serialize("products.holders"));
+    }
+
+    @Test
+    void topLevelFieldDoesNotMatchNestedFieldWithSameName() throws Exception {
+        assertEquals(json("{\"customerId\": \"cust-1\"}"), serialize("customerId"));
+        assertEquals(json("{}"), serialize("id"));
+    }
+
+    private JsonNode serialize(String fields) throws Exception {
+        byte[] json = mapper.writer(JacksonCustomizer.defaultFilters()
+                        .addFilter(JacksonCustomizer.FIELDS_FILTER, new FieldsPropertyFilter(FieldSelection.parse(fields))))
+                .writeValueAsBytes(SUMMARY);
+        return mapper.readTree(json);
+    }
+
+    private JsonNode json(String json) throws Exception {
+        return mapper.readTree(json);
+    }
+
+    private static ObjectMapper mapper() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        new JacksonCustomizer().customize(mapper);
+        return mapper;
+    }
+
+    private static AccountResponse account(String id, String balance, List<String> holders) {
+        return new AccountResponse(id, "cust-1", "001-" + id, ProductType.PASSIVE, null, null,
+                new BigDecimal(balance), null, null, 3, null, null, holders, List.of());
+    }
+}
@@ -0,0 +1,86 @@
+package com.bancario.reports.service.impl;
+
+import com.bancario.reports.aggregation.DailyBalancePrefixIndex;
+import com.bancario.reports.dto.DailyBalanceHistoryDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Junto a ReportsServiceImpl para comparar el índice con el cálculo directo por ventana (calculateDailyAverage).
+class DailyBalancePrefixIndexTest {
+
+    private static final ReportsServiceImpl REPORTS_SERVICE = new ReportsServiceImpl();
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2024, 1, 31);
+
+    @Test
+    void everyWindowMatchesDirectCalculation() {
+        List<DailyBalanceHistoryDto> history = history(new Random(42));
+        DailyBalancePrefixIndex index = DailyBalancePrefixIndex.build(
+                "cust-1", FIRST_DAY, LAST_DAY, history, REPORTS_SERVICE::mapToEffectiveBalance);
+
+        for (LocalDate start = FIRST_DAY; !start.isAfter(LAST_DAY); start = start.plusDays(1)) {
+            for (LocalDate end = start; !end.isAfter(LAST_DAY); end = end.plusDays(1)) {
+                assertEquals(REPORTS_SERVICE.calculateDailyAverage("cust-1", start, end, window(history, start, end)),
+                        index.average(start, end), "Ventana " + start + " - " + end);
+            }
+        }
+    }
+
+    @Test
+    void ignoresRowsOutsideRangeOrWithoutDate() {
+        List<DailyBalanceHistoryDto> history = List.of(
+                passive(FIRST_DAY.minusDays(1), "500.00"),
+                passive(null, "500.00"),
+                passive(FIRST_DAY, "10.00"),
+                passive(FIRST_DAY.plusDays(1), "20.03"),
+                passive(LAST_DAY.plusDays(1), "500.00"));
+        DailyBalancePrefixIndex index = DailyBalancePrefixIndex.build(
+                "cust-1", FIRST_DAY, LAST_DAY, history, REPORTS_SERVICE::mapToEffectiveBalance);
+
+        assertEquals(new BigDecimal("10.01"), index.average(FIRST_DAY, FIRST_DAY.plusDays(2)).dailyAverageBalance());
+        assertEquals(BigDecimal.ZERO, index.average(LAST_DAY, LAST_DAY).dailyAverageBalance());
+    }
+
+    @Test
+    void rejectsWindowOutsideIndexedRange() {
+        DailyBalancePrefixIndex index = DailyBalancePrefixIndex.build(
+                "cust-1", FIRST_DAY, LAST_DAY, List.of(), REPORTS_SERVICE::mapToEffectiveBalance);
+
+        assertThrows(IllegalArgumentException.class, () -> index.average(FIRST_DAY.minusDays(1), LAST_DAY));
+        assertThrows(IllegalArgumentException.class, () -> index.average(FIRST_DAY, LAST_DAY.plusDays(1)));
+    }
+
+    /**
+     * Historial con días sin filas, días sólo con créditos y saldos nulos.
+     */
+    private static List<DailyBalanceHistoryDto> history(Random random) {
+        List<DailyBalanceHistoryDto> history = new ArrayList<>();
+        for (LocalDate day = FIRST_DAY; !day.isAfter(LAST_DAY); day = day.plusDays(1)) {
+            int rows = random.nextInt(4);
+            for (int i = 0; i < rows; i++) {
+                String productType = random.nextInt(3) == 0 ? "ACTIVE" : "PASSIVE";
+                BigDecimal balance = random.nextInt(10) == 0 ? null : BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+                history.add(new DailyBalanceHistoryDto("prod-" + i, "SAVINGS", productType, day, balance, BigDecimal.ZERO));
+            }
+        }
+        return history;
+    }
+
+    private static List<DailyBalanceHistoryDto> window(List<DailyBalanceHistoryDto> history, LocalDate start, LocalDate end) {
+        return history.stream()
+                .filter(dto -> !dto.date().isBefore(start) && !dto.date().isAfter(end))
+                .toList();
+    }
+
+    private static DailyBalanceHistoryDto passive(LocalDate day, String balance) {
+        return new DailyBalanceHistoryDto("prod-1", "SAVINGS", "PASSIVE", day, new BigDecimal(balance), null);
+    }
+}